@@ -1,69 +1,141 @@
 package org.cleanpojo.ikkon;
 
-import static org.cleanpojo.ikkon.ParameterNameResolver.resolveParameterNames;
+import static org.cleanpojo.ikkon.GetterEvaluator.evaluate;
+import static org.cleanpojo.ikkon.ImmutableTypes.isImmutable;
 
-import java.lang.reflect.Constructor;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
-import java.util.UUID;
+import java.util.Map;
+import java.util.Optional;
 
 interface ArgumentResolver {
 
-    static Object[] resolveArguments(Constructor<?> constructor, Object source)
+    static Object[] resolveArguments(Mapper mapper, PropertyBinding[] bindings, Object source)
             throws ReflectiveOperationException {
 
-        String[] parameterNames = resolveParameterNames(constructor);
-        var arguments = new Object[constructor.getParameterCount()];
-        for (int i = 0; i < arguments.length; i++) {
-            arguments[i] = resolveArgument(constructor.getParameterTypes()[i], parameterNames[i], source);
+        Object[] values = evaluate(mapper, source, bindings);
+        return refineValues(mapper, bindings, values);
+    }
+
+    static Object[] refineValues(Mapper mapper, PropertyBinding[] bindings, Object[] values) {
+        if (ParallelRefiner.isWorthForking(mapper.getOptions(), values)) {
+            return ParallelRefiner.refineValues(mapper, bindings, values);
         }
 
-        return arguments;
-    }
+        var refinedValues = new Object[values.length];
+        for (int i = 0; i < values.length; i++) {
+            refinedValues[i] = refineValue(mapper, bindings[i], values[i]);
+        }
 
-    private static Object resolveArgument(
-            Class<?> parameterType,
-            String parameterName,
-            Object source)
-            throws ReflectiveOperationException {
+        return refinedValues;
+    }
 
-        var property = new PropertyHint(parameterType, parameterName);
-        Getter getter = GetterSelector.instance.select(source, property);
-        return getter == null
-            ? DefaultValue.of(parameterType)
-            : resolveArgument(parameterType, getter);
+    static Object refineValue(Mapper mapper, PropertyBinding binding, Object value) {
+        Class<?> type = binding.getType();
+        return value == null || value == Getter.ABSENT ? DefaultValue.of(type)
+             : binding.getConverter() != null ? binding.getConverter().apply(value)
+             : binding.isShared() ? value
+             : type.equals(Optional.class) ? refineOptional(mapper, binding.getElement(), value)
+             : type.equals(Iterable.class) ? toIterable(mapper, binding.getElement(), (Iterable<?>)value)
+             : type.equals(Collection.class) ? toList(mapper, binding.getElement(), (Iterable<?>)value)
+             : type.equals(List.class) ? toList(mapper, binding.getElement(), (Iterable<?>)value)
+             : type.equals(Map.class) ? toMap(mapper, binding.getElement(), (Map<?, ?>)value)
+             : binding.getPlans() != null ? mapNestedObject(mapper, binding.getPlans(), value)
+             : value;
     }
 
-    static Object resolveArgument(Class<?> parameterType, Getter getter)
-            throws ReflectiveOperationException {
-        return refineValue(parameterType, getter.get());
+    private static Object refineOptional(Mapper mapper, PropertyBinding element, Object value) {
+        if (value instanceof Optional<?>) {
+            Optional<?> optional = (Optional<?>) value;
+            if (optional.isEmpty()) {
+                return optional;
+            }
+
+            Object elementValue = optional.get();
+            Object refinedValue = refineValue(mapper, element, elementValue);
+            return refinedValue == elementValue ? optional : Optional.ofNullable(refinedValue);
+        }
+
+        return Optional.ofNullable(refineValue(mapper, element, value));
     }
 
-    private static Object refineValue(Class<?> parameterType, Object value) {
-        return parameterType.equals(Iterable.class) ? toIterable((Iterable<?>)value)
-             : parameterType.equals(Collection.class) ? toList((Iterable<?>)value)
-             : parameterType.equals(List.class) ? toList((Iterable<?>)value)
-             : isComplexType(parameterType) ? new Mapper().map(value, parameterType)
-             : value;
+    private static Object mapNestedObject(Mapper mapper, InlinePlanCache plans, Object value) {
+        try {
+            return plans.get(mapper, value.getClass()).execute(mapper, value);
+        } catch (ReflectiveOperationException exception) {
+            throw new RuntimeException(exception);
+        }
     }
 
-    private static <T> Iterable<T> toIterable(Iterable<T> iterable) {
-        var list = new ArrayList<T>();
-        iterable.forEach(list::add);
-        return Collections.unmodifiableList(list);
+    private static Iterable<Object> toIterable(Mapper mapper, PropertyBinding element, Iterable<?> iterable) {
+        return Collections.unmodifiableList(toList(mapper, element, iterable));
     }
 
-    private static <T> List<T> toList(Iterable<T> iterable) {
-        var list = new ArrayList<T>();
-        iterable.forEach(list::add);
+    private static List<Object> toList(Mapper mapper, PropertyBinding element, Iterable<?> iterable) {
+        var list = new ArrayList<Object>();
+        if (isPassThrough(element)) {
+            iterable.forEach(list::add);
+        } else if (isWorthSplitting(mapper, iterable)) {
+            Object[] items = ((Collection<?>) iterable).toArray();
+            Collections.addAll(list, ParallelRefiner.refineElements(mapper, element, items));
+        } else {
+            for (Object item : iterable) {
+                list.add(refineValue(mapper, element, item));
+            }
+        }
+
         return list;
     }
 
-    private static boolean isComplexType(Class<?> type) {
-        return type.isPrimitive() == false
-            && type.equals(String.class) == false
-            && type.equals(UUID.class) == false;
+    private static Map<Object, Object> toMap(Mapper mapper, PropertyBinding element, Map<?, ?> map) {
+        var copy = new LinkedHashMap<Object, Object>(map.size() * 4 / 3 + 1);
+        if (isPassThrough(element)) {
+            copy.putAll(map);
+        } else if (ParallelRefiner.isWorthSplitting(mapper.getOptions(), map.size())) {
+            Object[] entries = map.entrySet().toArray();
+            var values = new Object[entries.length];
+            for (int i = 0; i < entries.length; i++) {
+                values[i] = ((Map.Entry<?, ?>) entries[i]).getValue();
+            }
+
+            Object[] refinedValues = ParallelRefiner.refineElements(mapper, element, values);
+            for (int i = 0; i < entries.length; i++) {
+                copy.put(((Map.Entry<?, ?>) entries[i]).getKey(), refinedValues[i]);
+            }
+        } else {
+            for (Map.Entry<?, ?> entry : map.entrySet()) {
+                copy.put(entry.getKey(), refineValue(mapper, element, entry.getValue()));
+            }
+        }
+
+        return copy;
+    }
+
+    private static boolean isWorthSplitting(Mapper mapper, Iterable<?> iterable) {
+        return iterable instanceof Collection<?>
+            && ParallelRefiner.isWorthSplitting(mapper.getOptions(), ((Collection<?>) iterable).size());
+    }
+
+    private static boolean isPassThrough(PropertyBinding element) {
+        return element == null
+            || (element.getConverter() == null
+                && (element.isShared() || (element.getPlans() == null && element.getElement() == null)));
+    }
+
+    static boolean isNestedObjectType(Class<?> type) {
+        return isComplexType(type)
+            && type.equals(Iterable.class) == false
+            && type.equals(Collection.class) == false
+            && type.equals(List.class) == false
+            && type.equals(Map.class) == false
+            && type.equals(Object.class) == false;
+    }
+
+    static boolean isComplexType(Class<?> type) {
+        return isImmutable(type) == false
+            && type.equals(Optional.class) == false;
     }
 }
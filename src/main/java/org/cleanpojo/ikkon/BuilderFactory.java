@@ -0,0 +1,40 @@
+package org.cleanpojo.ikkon;
+
+import static org.cleanpojo.ikkon.ArgumentResolver.refineValues;
+import static org.cleanpojo.ikkon.GetterEvaluator.evaluate;
+
+import java.lang.reflect.Method;
+
+final class BuilderFactory implements InstanceFactory {
+
+    private final Method builderFactory;
+    private final Method[] fluentSetters;
+    private final Method build;
+    private final PropertyBinding[] properties;
+
+    public BuilderFactory(
+        final Method builderFactory,
+        final Method[] fluentSetters,
+        final Method build,
+        final PropertyBinding[] properties) {
+
+        this.builderFactory = builderFactory;
+        this.fluentSetters = fluentSetters;
+        this.build = build;
+        this.properties = properties;
+    }
+
+    @Override
+    public Object create(Mapper mapper, Object source) throws ReflectiveOperationException {
+        Object[] values = evaluate(mapper, source, properties);
+        Object[] arguments = refineValues(mapper, properties, values);
+        Object builder = builderFactory.invoke(null);
+        for (int i = 0; i < fluentSetters.length; i++) {
+            if (values[i] != Getter.ABSENT) {
+                builder = fluentSetters[i].invoke(builder, arguments[i]);
+            }
+        }
+
+        return build.invoke(builder);
+    }
+}
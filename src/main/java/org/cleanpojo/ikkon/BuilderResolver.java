@@ -0,0 +1,52 @@
+package org.cleanpojo.ikkon;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+
+interface BuilderResolver {
+
+    static Method findBuilderFactory(Class<?> destination) {
+        for (Method method : destination.getMethods()) {
+            if (isBuilderFactory(method, destination)) {
+                return method;
+            }
+        }
+
+        return null;
+    }
+
+    static Method findBuildMethod(Class<?> builderType, Class<?> destination) {
+        try {
+            Method build = builderType.getMethod("build");
+            return destination.isAssignableFrom(build.getReturnType()) ? build : null;
+        } catch (NoSuchMethodException exception) {
+            return null;
+        }
+    }
+
+    static String getFluentPropertyName(Method method, Class<?> builderType) {
+        if (Modifier.isStatic(method.getModifiers())
+            || method.getParameterCount() != 1
+            || method.getReturnType().equals(builderType) == false) {
+            return null;
+        }
+
+        String name = method.getName();
+        return hasPrefix(name, "with") ? name.substring(4)
+             : hasPrefix(name, "set") ? name.substring(3)
+             : name;
+    }
+
+    private static boolean isBuilderFactory(Method method, Class<?> destination) {
+        return method.getName().equals("builder")
+            && Modifier.isStatic(method.getModifiers())
+            && method.getParameterCount() == 0
+            && findBuildMethod(method.getReturnType(), destination) != null;
+    }
+
+    private static boolean hasPrefix(String name, String prefix) {
+        return name.length() > prefix.length()
+            && name.startsWith(prefix)
+            && Character.isUpperCase(name.charAt(prefix.length()));
+    }
+}
@@ -0,0 +1,19 @@
+package org.cleanpojo.ikkon;
+
+interface ClassLoaders {
+
+    static boolean canSee(Class<?> viewer, Class<?> type) {
+        ClassLoader target = type.getClassLoader();
+        if (target == null) {
+            return true;
+        }
+
+        for (ClassLoader loader = viewer.getClassLoader(); loader != null; loader = loader.getParent()) {
+            if (loader == target) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+}
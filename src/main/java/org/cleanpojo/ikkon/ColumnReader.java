@@ -0,0 +1,6 @@
+package org.cleanpojo.ikkon;
+
+interface ColumnReader {
+
+    Object read(RowSource row) throws ReflectiveOperationException;
+}
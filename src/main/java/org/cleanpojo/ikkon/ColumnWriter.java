@@ -0,0 +1,59 @@
+package org.cleanpojo.ikkon;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
+import java.lang.reflect.Array;
+
+interface ColumnWriter {
+
+    void write(Mapper mapper, Object source, Object array, int index) throws Throwable;
+
+    static ColumnWriter of(PlanCompiler compiler, Getter getter, Class<?> columnType) {
+        MethodHandle handle = getter.getHandle();
+        ColumnWriter writer = handle != null && handle.type().returnType().isPrimitive()
+            ? primitive(handle, columnType)
+            : null;
+        return writer == null ? boxed(compiler, getter, columnType) : writer;
+    }
+
+    private static ColumnWriter primitive(MethodHandle handle, Class<?> columnType) {
+        MethodHandle exact;
+        try {
+            exact = handle.asType(MethodType.methodType(columnType, Object.class));
+        } catch (WrongMethodTypeException exception) {
+            return null;
+        }
+
+        if (columnType.equals(int.class)) {
+            return (mapper, source, array, index) -> ((int[]) array)[index] = (int) exact.invokeExact(source);
+        } else if (columnType.equals(long.class)) {
+            return (mapper, source, array, index) -> ((long[]) array)[index] = (long) exact.invokeExact(source);
+        } else if (columnType.equals(double.class)) {
+            return (mapper, source, array, index) -> ((double[]) array)[index] = (double) exact.invokeExact(source);
+        } else if (columnType.equals(boolean.class)) {
+            return (mapper, source, array, index) -> ((boolean[]) array)[index] = (boolean) exact.invokeExact(source);
+        } else {
+            return null;
+        }
+    }
+
+    private static ColumnWriter boxed(PlanCompiler compiler, Getter getter, Class<?> columnType) {
+        var converter = new RuntimeConverter(compiler, columnType);
+        if (columnType.isPrimitive()) {
+            return (mapper, source, array, index) -> {
+                Object value = getter.get(mapper, source);
+                if (value != null && value != Getter.ABSENT) {
+                    Array.set(array, index, converter.convert(value));
+                }
+            };
+        }
+
+        return (mapper, source, array, index) -> {
+            Object value = getter.get(mapper, source);
+            if (value != Getter.ABSENT) {
+                ((Object[]) array)[index] = converter.convert(value);
+            }
+        };
+    }
+}
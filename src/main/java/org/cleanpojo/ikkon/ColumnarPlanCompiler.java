@@ -0,0 +1,100 @@
+package org.cleanpojo.ikkon;
+
+import java.lang.reflect.Array;
+import java.util.List;
+import java.util.Map;
+
+final class ColumnarPlanCompiler {
+
+    private final PlanKind writers;
+
+    public ColumnarPlanCompiler(final PlanCompiler compiler) {
+        this.writers = (sourceType, schema) -> compileWriters(
+            compiler,
+            sourceType,
+            DestinationSlots.of(schema, compiler.isFieldAccess()));
+    }
+
+    public Columns toColumns(Mapper mapper, List<?> sources, Class<?> schema) {
+        DestinationSlots slots = mapper.getSlots(schema);
+        Object[] elements = sources.toArray();
+        ColumnWriter[][] elementWriters = resolveWriters(mapper, elements, schema);
+        indexMapKeys(elements);
+
+        var names = new String[slots.size()];
+        var arrays = new Object[slots.size()];
+        for (int column = 0; column < arrays.length; column++) {
+            names[column] = slots.getName(column);
+            arrays[column] = Array.newInstance(slots.getType(column), elements.length);
+            fillColumn(mapper, arrays[column], column, elements, elementWriters);
+        }
+
+        return new Columns(names, arrays);
+    }
+
+    private ColumnWriter[][] resolveWriters(Mapper mapper, Object[] elements, Class<?> schema) {
+        var elementWriters = new ColumnWriter[elements.length][];
+        Class<?> lastType = null;
+        ColumnWriter[] lastWriters = null;
+        for (int i = 0; i < elements.length; i++) {
+            if (elements[i] != null) {
+                if (elements[i].getClass() != lastType) {
+                    lastType = elements[i].getClass();
+                    lastWriters = (ColumnWriter[]) mapper.getCachedPlan(lastType, schema, writers);
+                }
+
+                elementWriters[i] = lastWriters;
+            }
+        }
+
+        return elementWriters;
+    }
+
+    private static void indexMapKeys(Object[] elements) {
+        for (int i = 0; i < elements.length; i++) {
+            if (elements[i] instanceof Map<?, ?>) {
+                elements[i] = MapKeyIndex.of(elements[i]);
+            }
+        }
+    }
+
+    private static void fillColumn(
+            Mapper mapper,
+            Object array,
+            int column,
+            Object[] elements,
+            ColumnWriter[][] elementWriters) {
+
+        try {
+            for (int i = 0; i < elements.length; i++) {
+                ColumnWriter writer = elementWriters[i] == null ? null : elementWriters[i][column];
+                if (writer != null) {
+                    writer.write(mapper, elements[i], array, i);
+                }
+            }
+        } catch (RuntimeException | Error exception) {
+            throw exception;
+        } catch (Throwable throwable) {
+            throw new RuntimeException(throwable);
+        }
+    }
+
+    private static ColumnWriter[] compileWriters(
+            PlanCompiler compiler,
+            Class<?> sourceType,
+            DestinationSlots slots) {
+
+        var columnWriters = new ColumnWriter[slots.size()];
+        for (int i = 0; i < columnWriters.length; i++) {
+            var property = new PropertyHint(
+                slots.getType(i),
+                slots.getGenericType(i),
+                slots.getName(i),
+                FieldMask.all());
+            Getter getter = compiler.selectGetter(sourceType, property);
+            columnWriters[i] = getter == null ? null : ColumnWriter.of(compiler, getter, slots.getType(i));
+        }
+
+        return columnWriters;
+    }
+}
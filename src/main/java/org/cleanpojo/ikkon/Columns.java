@@ -0,0 +1,128 @@
+package org.cleanpojo.ikkon;
+
+import java.lang.reflect.Array;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public final class Columns {
+
+    private final String[] names;
+    private final Object[] arrays;
+    private final Map<String, Integer> indexes;
+    private final int size;
+
+    public Columns(final String[] names, final Object[] arrays) {
+        if (names.length != arrays.length) {
+            String message = "The number of names and arrays must be the same.";
+            throw new IllegalArgumentException(message);
+        }
+
+        this.names = names.clone();
+        this.arrays = arrays.clone();
+        this.indexes = new HashMap<>();
+        this.size = arrays.length == 0 ? 0 : Array.getLength(arrays[0]);
+        for (int i = 0; i < arrays.length; i++) {
+            if (Array.getLength(arrays[i]) != size) {
+                String message = "The column '" + names[i] + "' does not have " + size + " values.";
+                throw new IllegalArgumentException(message);
+            }
+
+            indexes.putIfAbsent(names[i], i);
+        }
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public List<String> getNames() {
+        return List.of(names);
+    }
+
+    public Object get(String name) {
+        Integer index = indexes.get(name);
+        if (index == null) {
+            String message = "The column '" + name + "' does not exist.";
+            throw new IllegalArgumentException(message);
+        }
+
+        return arrays[index];
+    }
+
+    public int[] getInts(String name) {
+        return (int[]) get(name);
+    }
+
+    public long[] getLongs(String name) {
+        return (long[]) get(name);
+    }
+
+    public double[] getDoubles(String name) {
+        return (double[]) get(name);
+    }
+
+    public boolean[] getBooleans(String name) {
+        return (boolean[]) get(name);
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T[] getObjects(String name, Class<T> elementType) {
+        Object array = get(name);
+        if (elementType.isAssignableFrom(array.getClass().getComponentType()) == false) {
+            throw new ClassCastException(array.getClass().getName() + " is not an array of " + elementType.getName());
+        }
+
+        return (T[]) array;
+    }
+
+    RowSource toRowSource() {
+        return new Cursor();
+    }
+
+    private final class Cursor implements RowSource {
+
+        private int row = -1;
+
+        @Override
+        public List<String> getColumnNames() {
+            return getNames();
+        }
+
+        @Override
+        public boolean next() {
+            return ++row < size;
+        }
+
+        @Override
+        public Object getObject(int column) {
+            return Array.get(arrays[column], row);
+        }
+
+        @Override
+        public int getInt(int column) {
+            Object array = arrays[column];
+            return array instanceof int[] ? ((int[]) array)[row] : RowSource.super.getInt(column);
+        }
+
+        @Override
+        public long getLong(int column) {
+            Object array = arrays[column];
+            return array instanceof long[] ? ((long[]) array)[row]
+                 : array instanceof int[] ? ((int[]) array)[row]
+                 : RowSource.super.getLong(column);
+        }
+
+        @Override
+        public double getDouble(int column) {
+            Object array = arrays[column];
+            return array instanceof double[] ? ((double[]) array)[row] : RowSource.super.getDouble(column);
+        }
+
+        @Override
+        public boolean getBoolean(int column) {
+            Object array = arrays[column];
+            return array instanceof boolean[] ? ((boolean[]) array)[row] : RowSource.super.getBoolean(column);
+        }
+    }
+}
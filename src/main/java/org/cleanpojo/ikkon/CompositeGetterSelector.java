@@ -11,9 +11,9 @@ final class CompositeGetterSelector implements GetterSelector {
     }
 
     @Override
-    public Getter select(Object source, PropertyHint property) {
+    public Getter select(Class<?> sourceType, PropertyHint property) {
         for (GetterSelector selector : selectors) {
-            Getter getter = selector.select(source, property);
+            Getter getter = selector.select(sourceType, property);
             if (getter != null) {
                 return getter;
             }
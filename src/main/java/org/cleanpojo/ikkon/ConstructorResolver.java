@@ -1,18 +1,37 @@
 package org.cleanpojo.ikkon;
 
+import static org.cleanpojo.ikkon.Records.getCanonicalConstructor;
+import static org.cleanpojo.ikkon.Records.isRecord;
+
 import java.lang.reflect.Constructor;
 
 interface ConstructorResolver {
 
-    static <T> Constructor<?> resolveConstructor(Class<T> destination)
-            throws NoSuchMethodException {
+    static <T> Constructor<?> resolveConstructor(Class<T> destination) {
+        if (isRecord(destination)) {
+            return getCanonicalConstructor(destination);
+        }
 
         Constructor<?>[] constructors = destination.getConstructors();
-        if (constructors.length > 1) {
-            String message = "The type '" + destination.getName() + "' has multiple constructor.";
-            throw new RuntimeException(message);
+        if (constructors.length != 1) {
+            throw new RuntimeException(describeUnresolvableConstructor(destination));
         }
 
         return constructors[0];
     }
+
+    static String describeUnresolvableConstructor(Class<?> destination) {
+        return destination.getConstructors().length == 0
+            ? "The type '" + destination.getName() + "' has no public constructor."
+            : "The type '" + destination.getName() + "' has multiple constructor.";
+    }
+
+    static <T> Constructor<?> findConstructor(Class<T> destination) {
+        if (isRecord(destination)) {
+            return getCanonicalConstructor(destination);
+        }
+
+        Constructor<?>[] constructors = destination.getConstructors();
+        return constructors.length == 1 ? constructors[0] : null;
+    }
 }
@@ -0,0 +1,79 @@
+package org.cleanpojo.ikkon;
+
+import static org.cleanpojo.ikkon.ValueReader.unexpected;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+interface ContainerReaders {
+
+    static ValueReader list(ValueReader element, boolean unmodifiable) {
+        return (mapper, reader, event) -> {
+            if (event == PullEvent.VALUE && reader.getValue() == null) {
+                return null;
+            }
+
+            if (event != PullEvent.START_ARRAY) {
+                throw unexpected(PullEvent.START_ARRAY, event);
+            }
+
+            var list = new ArrayList<Object>();
+            for (event = reader.next(); event != PullEvent.END_ARRAY; event = reader.next()) {
+                list.add(element.read(mapper, reader, event));
+            }
+
+            return unmodifiable ? Collections.unmodifiableList(list) : list;
+        };
+    }
+
+    static ValueReader map(ValueReader element) {
+        return (mapper, reader, event) -> {
+            if (event == PullEvent.VALUE && reader.getValue() == null) {
+                return null;
+            }
+
+            if (event != PullEvent.START_OBJECT) {
+                throw unexpected(PullEvent.START_OBJECT, event);
+            }
+
+            var map = new LinkedHashMap<String, Object>();
+            for (event = reader.next(); event != PullEvent.END_OBJECT; event = reader.next()) {
+                if (event != PullEvent.FIELD_NAME) {
+                    throw unexpected(PullEvent.FIELD_NAME, event);
+                }
+
+                String name = reader.getFieldName();
+                map.put(name, element.read(mapper, reader, reader.next()));
+            }
+
+            return map;
+        };
+    }
+
+    static ValueReader optional(ValueReader element) {
+        return (mapper, reader, event) -> Optional.ofNullable(element.read(mapper, reader, event));
+    }
+
+    static ValueReader untyped() {
+        return new ValueReader() {
+
+            private final ValueReader list = list(this, false);
+            private final ValueReader map = map(this);
+
+            @Override
+            public Object read(Mapper mapper, EventReader reader, PullEvent event) throws ReflectiveOperationException {
+                return event == PullEvent.START_ARRAY ? list.read(mapper, reader, event)
+                     : event == PullEvent.START_OBJECT ? map.read(mapper, reader, event)
+                     : event == PullEvent.VALUE ? reader.getValue()
+                     : throwUnexpected(event);
+            }
+        };
+    }
+
+    private static Object throwUnexpected(PullEvent event) {
+        throw unexpected(PullEvent.VALUE, event);
+    }
+}
@@ -0,0 +1,53 @@
+package org.cleanpojo.ikkon;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+final class ConverterRegistry {
+
+    private final Map<Class<?>, Map<Class<?>, Function<Object, Object>>> converters;
+
+    public ConverterRegistry() {
+        this(Map.of());
+    }
+
+    private ConverterRegistry(final Map<Class<?>, Map<Class<?>, Function<Object, Object>>> converters) {
+        this.converters = converters;
+    }
+
+    public ConverterRegistry with(
+            Class<?> sourceType,
+            Class<?> targetType,
+            Function<Object, Object> converter) {
+
+        var bySource = new HashMap<>(converters);
+        var byTarget = new HashMap<>(converters.getOrDefault(sourceType, Map.of()));
+        byTarget.put(targetType, converter);
+        bySource.put(sourceType, Map.copyOf(byTarget));
+        return new ConverterRegistry(Map.copyOf(bySource));
+    }
+
+    public Function<Object, Object> find(Class<?> sourceType, Class<?> targetType) {
+        for (Class<?> type = sourceType; type != null; type = type.getSuperclass()) {
+            Function<Object, Object> converter = findExact(type, targetType);
+            if (converter != null) {
+                return converter;
+            }
+
+            for (Class<?> contract : type.getInterfaces()) {
+                converter = findExact(contract, targetType);
+                if (converter != null) {
+                    return converter;
+                }
+            }
+        }
+
+        return null;
+    }
+
+    private Function<Object, Object> findExact(Class<?> sourceType, Class<?> targetType) {
+        Map<Class<?>, Function<Object, Object>> byTarget = converters.get(sourceType);
+        return byTarget == null ? null : byTarget.get(targetType);
+    }
+}
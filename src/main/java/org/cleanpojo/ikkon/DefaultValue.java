@@ -1,5 +1,7 @@
 package org.cleanpojo.ikkon;
 
+import java.util.Optional;
+
 interface DefaultValue {
 
     static Object of(Class<?> type) {
@@ -19,6 +21,8 @@ interface DefaultValue {
             return false;
         } else if (type.equals(char.class)) {
             return (char)0;
+        } else if (type.equals(Optional.class)) {
+            return Optional.empty();
         } else {
             return null;
         }
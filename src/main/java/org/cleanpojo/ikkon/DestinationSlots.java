@@ -0,0 +1,130 @@
+package org.cleanpojo.ikkon;
+
+import static java.beans.Introspector.decapitalize;
+import static org.cleanpojo.ikkon.ConstructorResolver.resolveConstructor;
+import static org.cleanpojo.ikkon.FieldAccessors.getInstanceFields;
+import static org.cleanpojo.ikkon.FieldAccessors.isWritable;
+import static org.cleanpojo.ikkon.FieldAccessors.setter;
+import static org.cleanpojo.ikkon.ParameterNameResolver.resolveParameterNames;
+import static org.cleanpojo.ikkon.PropertySetter.isSetter;
+import static org.cleanpojo.ikkon.Records.newInstance;
+import static org.cleanpojo.ikkon.Types.rawType;
+import static org.cleanpojo.ikkon.Types.resolve;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+final class DestinationSlots {
+
+    private final Constructor<?> constructor;
+    private final String[] names;
+    private final Type[] genericTypes;
+    private final Class<?>[] types;
+    private final Setter[] setters;
+
+    private DestinationSlots(
+        final Constructor<?> constructor,
+        final String[] names,
+        final Type[] genericTypes,
+        final Setter[] setters) {
+
+        this.constructor = constructor;
+        this.names = names;
+        this.genericTypes = genericTypes;
+        this.types = new Class<?>[genericTypes.length];
+        for (int i = 0; i < genericTypes.length; i++) {
+            types[i] = rawType(genericTypes[i]);
+        }
+
+        this.setters = setters;
+    }
+
+    public static DestinationSlots of(Type destinationType, boolean fieldAccess) {
+        Class<?> rawType = rawType(destinationType);
+        Constructor<?> constructor = resolveConstructor(rawType);
+        var names = new ArrayList<String>(List.of(resolveParameterNames(constructor)));
+        var genericTypes = new ArrayList<Type>(List.of(getGenericParameterTypes(constructor)));
+        var setters = new ArrayList<Setter>();
+        Set<String> taken = new HashSet<>(names);
+        if (fieldAccess) {
+            for (Field field : getInstanceFields(rawType)) {
+                if (isWritable(field) && taken.add(field.getName())) {
+                    names.add(field.getName());
+                    genericTypes.add(field.getGenericType());
+                    setters.add(setter(field));
+                }
+            }
+        } else {
+            for (Method method : rawType.getMethods()) {
+                String name = isSetter(method) ? decapitalize(method.getName().substring(3)) : null;
+                if (name != null && taken.add(name)) {
+                    names.add(name);
+                    genericTypes.add(method.getGenericParameterTypes()[0]);
+                    setters.add(Setter.fromMethod(method));
+                }
+            }
+        }
+
+        for (int i = 0; i < genericTypes.size(); i++) {
+            genericTypes.set(i, resolve(genericTypes.get(i), destinationType));
+        }
+
+        return new DestinationSlots(
+            constructor,
+            names.toArray(new String[0]),
+            genericTypes.toArray(new Type[0]),
+            setters.toArray(new Setter[0]));
+    }
+
+    private static Type[] getGenericParameterTypes(Constructor<?> constructor) {
+        Type[] genericTypes = constructor.getGenericParameterTypes();
+        return genericTypes.length == constructor.getParameterCount()
+            ? genericTypes
+            : constructor.getParameterTypes();
+    }
+
+    public int size() {
+        return names.length;
+    }
+
+    public String getName(int slot) {
+        return names[slot];
+    }
+
+    public Type getGenericType(int slot) {
+        return genericTypes[slot];
+    }
+
+    public Class<?> getType(int slot) {
+        return types[slot];
+    }
+
+    public Object createInstance(Object[] values, boolean[] present) throws ReflectiveOperationException {
+        int argumentCount = names.length - setters.length;
+        for (int i = 0; i < argumentCount; i++) {
+            if (values[i] == null) {
+                values[i] = DefaultValue.of(types[i]);
+            }
+        }
+
+        Object instance = newInstance(
+            constructor,
+            argumentCount == values.length ? values : Arrays.copyOf(values, argumentCount));
+        for (int i = 0; i < setters.length; i++) {
+            int slot = argumentCount + i;
+            if (present[slot]) {
+                Object value = values[slot];
+                setters[i].set(instance, value == null ? DefaultValue.of(types[slot]) : value);
+            }
+        }
+
+        return instance;
+    }
+}
@@ -0,0 +1,86 @@
+package org.cleanpojo.ikkon;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+interface EnumConverters {
+
+    int LINEAR_SCAN_LIMIT = 16;
+
+    static Function<Object, Object> find(Class<?> sourceType, Class<?> targetType) {
+        if (sourceType.isEnum() && targetType.isEnum() && sourceType.equals(targetType) == false) {
+            return byName(sourceType, targetType);
+        }
+
+        if (sourceType.isEnum() && targetType.equals(String.class)) {
+            return value -> ((Enum<?>) value).name();
+        }
+
+        if (sourceType.equals(String.class) && targetType.isEnum()) {
+            return fromName(targetType);
+        }
+
+        return null;
+    }
+
+    private static Function<Object, Object> byName(Class<?> sourceType, Class<?> targetType) {
+        Object[] sourceConstants = sourceType.getEnumConstants();
+        var table = new Object[sourceConstants.length];
+        for (int i = 0; i < table.length; i++) {
+            String name = ((Enum<?>) sourceConstants[i]).name();
+            table[i] = findConstant(targetType, name);
+        }
+
+        return value -> {
+            Object constant = table[((Enum<?>) value).ordinal()];
+            return constant == null ? throwNoConstant(targetType, ((Enum<?>) value).name()) : constant;
+        };
+    }
+
+    private static Function<Object, Object> fromName(Class<?> targetType) {
+        Object[] constants = targetType.getEnumConstants();
+        var names = new String[constants.length];
+        for (int i = 0; i < names.length; i++) {
+            names[i] = ((Enum<?>) constants[i]).name();
+        }
+
+        if (constants.length > LINEAR_SCAN_LIMIT) {
+            var index = new HashMap<String, Object>();
+            for (int i = 0; i < names.length; i++) {
+                index.put(names[i], constants[i]);
+            }
+
+            Map<String, Object> table = Map.copyOf(index);
+            return value -> {
+                Object constant = table.get(value);
+                return constant == null ? throwNoConstant(targetType, value) : constant;
+            };
+        }
+
+        return value -> {
+            for (int i = 0; i < names.length; i++) {
+                if (names[i].equals(value)) {
+                    return constants[i];
+                }
+            }
+
+            return throwNoConstant(targetType, value);
+        };
+    }
+
+    private static Object findConstant(Class<?> enumType, String name) {
+        for (Object constant : enumType.getEnumConstants()) {
+            if (((Enum<?>) constant).name().equals(name)) {
+                return constant;
+            }
+        }
+
+        return null;
+    }
+
+    private static Object throwNoConstant(Class<?> enumType, Object name) {
+        String message = "The enum type '" + enumType.getName() + "' has no constant named '" + name + "'.";
+        throw new IllegalArgumentException(message);
+    }
+}
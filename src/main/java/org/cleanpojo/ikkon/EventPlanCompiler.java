@@ -0,0 +1,110 @@
+package org.cleanpojo.ikkon;
+
+import static org.cleanpojo.ikkon.ArgumentResolver.isNestedObjectType;
+import static org.cleanpojo.ikkon.BuilderResolver.findBuilderFactory;
+import static org.cleanpojo.ikkon.ContainerReaders.list;
+import static org.cleanpojo.ikkon.ContainerReaders.map;
+import static org.cleanpojo.ikkon.ContainerReaders.optional;
+import static org.cleanpojo.ikkon.ContainerReaders.untyped;
+import static org.cleanpojo.ikkon.ImmutableTypes.isImmutable;
+import static org.cleanpojo.ikkon.Types.rawType;
+import static org.cleanpojo.ikkon.Types.typeArgument;
+
+import java.lang.reflect.Type;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+final class EventPlanCompiler {
+
+    private final PlanCompiler compiler;
+    private final PlanKind readers = (sourceType, destinationType) -> compile(destinationType);
+
+    public EventPlanCompiler(final PlanCompiler compiler) {
+        this.compiler = compiler;
+    }
+
+    public ValueReader get(Mapper mapper, Type type) {
+        if (type instanceof Class<?>) {
+            Class<?> destinationType = (Class<?>) type;
+            return (ValueReader) mapper.getCachedPlan(destinationType, destinationType, readers);
+        }
+
+        return compile(type);
+    }
+
+    private ValueReader compile(Type type) {
+        Class<?> rawType = rawType(type);
+        if (rawType.equals(Object.class)) {
+            return untyped();
+        } else if (isImmutable(rawType)) {
+            return new ScalarReader(new RuntimeConverter(compiler, rawType));
+        } else if (rawType.equals(Optional.class)) {
+            return optional(compileValue(typeArgument(type, 0)));
+        } else if (rawType.equals(Iterable.class)) {
+            boolean unmodifiable = true;
+            return list(compileValue(typeArgument(type, 0)), unmodifiable);
+        } else if (rawType.equals(Collection.class) || rawType.equals(List.class)) {
+            boolean unmodifiable = false;
+            return list(compileValue(typeArgument(type, 0)), unmodifiable);
+        } else if (rawType.equals(Map.class)) {
+            return map(compileValue(typeArgument(type, 1)));
+        } else {
+            return compileObject(type, rawType);
+        }
+    }
+
+    private ValueReader compileValue(Type type) {
+        return isNestedObjectType(rawType(type)) ? new DeferredReader(this, type) : compile(type);
+    }
+
+    private ValueReader compileObject(Type type, Class<?> rawType) {
+        if (rawType.isInterface() || isBuiltOnly(rawType)) {
+            ValueReader map = map(untyped());
+            return (mapper, reader, event) -> mapper.map(map.read(mapper, reader, event), rawType);
+        }
+
+        var slots = DestinationSlots.of(type, compiler.isFieldAccess());
+        var indexes = new HashMap<String, Integer>();
+        var readers = new ValueReader[slots.size()];
+        for (int i = 0; i < readers.length; i++) {
+            for (String spelling : MapKeyPath.spellings(slots.getName(i))) {
+                indexes.putIfAbsent(spelling, i);
+            }
+
+            indexes.put(slots.getName(i), i);
+            readers[i] = compileValue(slots.getGenericType(i));
+        }
+
+        return new ObjectReader(slots, Map.copyOf(indexes), readers);
+    }
+
+    private static boolean isBuiltOnly(Class<?> type) {
+        return findBuilderFactory(type) != null && type.getConstructors().length == 0;
+    }
+
+    private static final class DeferredReader implements ValueReader {
+
+        private final EventPlanCompiler compiler;
+        private final Type type;
+        private volatile ValueReader reader;
+
+        DeferredReader(final EventPlanCompiler compiler, final Type type) {
+            this.compiler = compiler;
+            this.type = type;
+        }
+
+        @Override
+        public Object read(Mapper mapper, EventReader reader, PullEvent event) throws ReflectiveOperationException {
+            ValueReader target = this.reader;
+            if (target == null) {
+                target = compiler.get(mapper, type);
+                this.reader = target;
+            }
+
+            return target.read(mapper, reader, event);
+        }
+    }
+}
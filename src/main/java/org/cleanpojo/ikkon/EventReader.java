@@ -0,0 +1,10 @@
+package org.cleanpojo.ikkon;
+
+public interface EventReader {
+
+    PullEvent next();
+
+    String getFieldName();
+
+    Object getValue();
+}
@@ -0,0 +1,83 @@
+package org.cleanpojo.ikkon;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.VarHandle;
+import java.lang.invoke.VarHandle.AccessMode;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+
+interface FieldAccessors {
+
+    static List<Field> getInstanceFields(Class<?> type) {
+        var fields = new ArrayList<Field>();
+        for (Class<?> c = type; c != null && c.equals(Object.class) == false; c = c.getSuperclass()) {
+            for (Field field : c.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) == false && field.isSynthetic() == false) {
+                    fields.add(field);
+                }
+            }
+        }
+
+        return fields;
+    }
+
+    static Field findField(Class<?> type, String name) {
+        for (Field field : getInstanceFields(type)) {
+            if (field.getName().equalsIgnoreCase(name)) {
+                return field;
+            }
+        }
+
+        return null;
+    }
+
+    static boolean isWritable(Field field) {
+        return Modifier.isFinal(field.getModifiers()) == false;
+    }
+
+    static Getter getter(Field field) {
+        MethodHandle fieldHandle = toMethodHandle(field, AccessMode.GET);
+        MethodHandle handle = fieldHandle.asType(MethodType.methodType(Object.class, Object.class));
+        Getter getter = Getter.typed(field.getGenericType(), false, (mapper, source) -> {
+            try {
+                return (Object) handle.invokeExact(source);
+            } catch (RuntimeException | Error exception) {
+                throw exception;
+            } catch (Throwable throwable) {
+                throw new RuntimeException(throwable);
+            }
+        });
+        return Getter.direct(getter, fieldHandle);
+    }
+
+    static Setter setter(Field field) {
+        MethodHandle handle = toMethodHandle(field, AccessMode.SET)
+            .asType(MethodType.methodType(void.class, Object.class, Object.class));
+        return (target, value) -> {
+            try {
+                handle.invokeExact(target, value);
+            } catch (RuntimeException | Error exception) {
+                throw exception;
+            } catch (Throwable throwable) {
+                throw new RuntimeException(throwable);
+            }
+        };
+    }
+
+    private static MethodHandle toMethodHandle(Field field, AccessMode accessMode) {
+        try {
+            MethodHandles.Lookup lookup = MethodHandles.privateLookupIn(
+                field.getDeclaringClass(),
+                MethodHandles.lookup());
+            VarHandle handle = lookup.unreflectVarHandle(field);
+            return handle.toMethodHandle(accessMode);
+        } catch (IllegalAccessException exception) {
+            String message = "The field '" + field + "' is not accessible. Open its package to Ikkon to use field access.";
+            throw new RuntimeException(message, exception);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package org.cleanpojo.ikkon;
+
+import static org.cleanpojo.ikkon.FieldAccessors.findField;
+import static org.cleanpojo.ikkon.FieldAccessors.getter;
+
+import java.lang.reflect.Field;
+
+final class FieldGetterSelector implements GetterSelector {
+
+    @Override
+    public Getter select(Class<?> sourceType, PropertyHint property) {
+        Field field = findField(sourceType, property.getName());
+        return field == null ? null : getter(field);
+    }
+}
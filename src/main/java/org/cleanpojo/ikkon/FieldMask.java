@@ -0,0 +1,100 @@
+package org.cleanpojo.ikkon;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+public final class FieldMask {
+
+    private static final FieldMask ALL = new FieldMask(null);
+
+    private final Map<String, FieldMask> fields;
+
+    private FieldMask(final Map<String, FieldMask> fields) {
+        this.fields = fields;
+    }
+
+    public static FieldMask all() {
+        return ALL;
+    }
+
+    public static FieldMask of(String... paths) {
+        return of(Arrays.asList(paths));
+    }
+
+    public static FieldMask of(Collection<String> paths) {
+        var root = new Node();
+        for (String path : paths) {
+            root.add(path.split("\\."), 0);
+        }
+
+        return root.toMask();
+    }
+
+    public boolean isAll() {
+        return fields == null;
+    }
+
+    boolean includes(String name) {
+        return fields == null || fields.containsKey(normalize(name));
+    }
+
+    FieldMask get(String name) {
+        return fields == null ? ALL : fields.getOrDefault(normalize(name), ALL);
+    }
+
+    private static String normalize(String name) {
+        return name.toLowerCase(Locale.ROOT);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+
+        if (obj instanceof FieldMask == false) {
+            return false;
+        }
+
+        var other = (FieldMask)obj;
+        return fields == null ? other.fields == null : fields.equals(other.fields);
+    }
+
+    @Override
+    public int hashCode() {
+        return fields == null ? 0 : fields.hashCode();
+    }
+
+    private static final class Node {
+
+        private Map<String, Node> children = new HashMap<>();
+
+        void add(String[] path, int index) {
+            if (children == null) {
+                return;
+            }
+
+            if (index == path.length) {
+                children = null;
+                return;
+            }
+
+            children
+                .computeIfAbsent(normalize(path[index]), name -> new Node())
+                .add(path, index + 1);
+        }
+
+        FieldMask toMask() {
+            if (children == null) {
+                return ALL;
+            }
+
+            var fields = new HashMap<String, FieldMask>();
+            children.forEach((name, child) -> fields.put(name, child.toMask()));
+            return new FieldMask(Map.copyOf(fields));
+        }
+    }
+}
@@ -1,52 +1,87 @@
 package org.cleanpojo.ikkon;
 
+import static org.cleanpojo.ikkon.FieldAccessors.getInstanceFields;
+import static org.cleanpojo.ikkon.FieldAccessors.getter;
+import static org.cleanpojo.ikkon.Records.getAccessors;
 import static org.cleanpojo.ikkon.StringFunctions.startsWith;
 
+import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 
 final class FlatteningGetterSelector implements GetterSelector {
 
+    private final PlanCompiler compiler;
+
+    public FlatteningGetterSelector(final PlanCompiler compiler) {
+        this.compiler = compiler;
+    }
+
     @Override
-    public Getter select(Object source, PropertyHint property) {
-        if (source == null) {
-            return null;
+    public Getter select(Class<?> sourceType, PropertyHint property) {
+        return compiler.isFieldAccess()
+            ? selectThroughFields(sourceType, property.getName())
+            : selectThroughMethods(sourceType, property.getName());
+    }
+
+    private Getter selectThroughFields(Class<?> sourceType, String propertyName) {
+        for (Field field : getInstanceFields(sourceType)) {
+            Getter subPathWalker = getSubPathWalker(propertyName, field.getName(), field.getType());
+            if (subPathWalker != null) {
+                return walkWithPath(getter(field), subPathWalker);
+            }
         }
 
-        for (Method method : source.getClass().getMethods()) {
-            if (isEdge(property.getName(), method)) {
-                return () -> walkWithPath(source, property.getName(), method);
+        return null;
+    }
+
+    private Getter selectThroughMethods(Class<?> sourceType, String propertyName) {
+        for (Method accessor : getAccessors(sourceType)) {
+            Getter subPathWalker = getSubPathWalker(propertyName, accessor.getName(), accessor.getReturnType());
+            if (subPathWalker != null) {
+                return walkWithPath(Getter.fromMethod(accessor), subPathWalker);
+            }
+        }
+
+        for (Method method : sourceType.getMethods()) {
+            if (isGetAccessor(method)) {
+                String edgeName = method.getName().substring(3);
+                Getter subPathWalker = getSubPathWalker(propertyName, edgeName, method.getReturnType());
+                if (subPathWalker != null) {
+                    return walkWithPath(Getter.fromMethod(method), subPathWalker);
+                }
             }
         }
 
         return null;
     }
 
-    private static boolean isEdge(String propertyName, Method method) {
-        String methodName = method.getName();
-        return startsWith(methodName, "get")
-            && startsWith(propertyName, methodName.substring(3))
-            && method.getReturnType().equals(void.class) == false
+    private static boolean isGetAccessor(Method method) {
+        return startsWith(method.getName(), "get")
             && method.getParameterCount() == 0;
     }
 
-    private static Object walkWithPath(
-            Object vertex,
-            String propertyName,
-            Method edge)
-            throws ReflectiveOperationException {
-
-        Object nextVertex = edge.invoke(vertex);
-        Getter subPathWalker = getSubPathWalker(nextVertex, propertyName, edge);
-        return subPathWalker == null ? null : subPathWalker.get();
+    private static boolean isEdge(String propertyName, String edgeName, Class<?> edgeType) {
+        return startsWith(propertyName, edgeName)
+            && edgeType.equals(void.class) == false
+            && edgeType.isPrimitive() == false;
     }
 
-    private static Getter getSubPathWalker(Object nextVertex, String propertyName, Method edge) {
-        var property = new PropertyHint(Object.class, trimEdgePath(propertyName, edge));
-        return GetterSelector.instance.select(nextVertex, property);
+    private Getter getSubPathWalker(String propertyName, String edgeName, Class<?> edgeType) {
+        if (isEdge(propertyName, edgeName, edgeType) == false) {
+            return null;
+        }
+
+        var property = new PropertyHint(Object.class, propertyName.substring(edgeName.length()));
+        return compiler.selectGetter(edgeType, property);
     }
 
-    private static String trimEdgePath(String propertyName, Method edge) {
-        int pathLength = edge.getName().length() - 3;
-        return propertyName.substring(pathLength);
+    private static Getter walkWithPath(Getter edge, Getter subPathWalker) {
+        return Getter.typed(
+            subPathWalker.getGenericType(),
+            edge.isExpensive() || subPathWalker.isExpensive(),
+            (mapper, vertex) -> {
+                Object nextVertex = edge.get(mapper, vertex);
+                return nextVertex == null ? null : subPathWalker.get(mapper, nextVertex);
+            });
     }
 }
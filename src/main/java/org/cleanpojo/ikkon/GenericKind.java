@@ -0,0 +1,67 @@
+package org.cleanpojo.ikkon;
+
+import static org.cleanpojo.ikkon.Types.rawType;
+
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+
+final class GenericKind implements PlanKind {
+
+    private final PlanCompiler compiler;
+    private final Type destinationType;
+    private final FieldMask mask;
+    private final List<Class<?>> dependencies;
+
+    public GenericKind(final PlanCompiler compiler, final Type destinationType, final FieldMask mask) {
+        this.compiler = compiler;
+        this.destinationType = destinationType;
+        this.mask = mask;
+        this.dependencies = List.copyOf(collectTypeArguments(destinationType, new ArrayList<>()));
+    }
+
+    @Override
+    public Object compile(Class<?> sourceType, Class<?> destinationType) {
+        String pathToSource = "";
+        return compiler.compile(sourceType, this.destinationType, pathToSource, mask);
+    }
+
+    @Override
+    public List<Class<?>> getDependencies() {
+        return dependencies;
+    }
+
+    private static List<Class<?>> collectTypeArguments(Type type, List<Class<?>> classes) {
+        if (type instanceof ParameterizedType) {
+            for (Type argument : ((ParameterizedType) type).getActualTypeArguments()) {
+                Class<?> rawType = rawType(argument);
+                if (classes.contains(rawType) == false) {
+                    classes.add(rawType);
+                }
+
+                collectTypeArguments(argument, classes);
+            }
+        } else if (type instanceof GenericArrayType) {
+            collectTypeArguments(((GenericArrayType) type).getGenericComponentType(), classes);
+        }
+
+        return classes;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof GenericKind == false) {
+            return false;
+        }
+
+        var other = (GenericKind) obj;
+        return destinationType.equals(other.destinationType) && mask.equals(other.mask);
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * destinationType.hashCode() + mask.hashCode();
+    }
+}
@@ -1,12 +1,100 @@
 package org.cleanpojo.ikkon;
 
+import static org.cleanpojo.ikkon.Types.rawType;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
 import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Type;
 
 interface Getter {
 
-    Object get() throws ReflectiveOperationException;
+    Object ABSENT = new Object();
+
+    Object get(Mapper mapper, Object source) throws ReflectiveOperationException;
+
+    default Type getGenericType() {
+        return Object.class;
+    }
+
+    default Class<?> getType() {
+        return rawType(getGenericType());
+    }
+
+    default boolean isExpensive() {
+        return false;
+    }
+
+    default MethodHandle getHandle() {
+        return null;
+    }
+
+    static Getter fromMethod(Method method) {
+        Getter getter = typed(
+            method.getGenericReturnType(),
+            method.isAnnotationPresent(Expensive.class),
+            (mapper, source) -> method.invoke(source));
+        return getter.isExpensive() ? getter : direct(getter, unreflect(method));
+    }
+
+    private static MethodHandle unreflect(Method method) {
+        if (Modifier.isPublic(method.getDeclaringClass().getModifiers()) == false) {
+            return null;
+        }
+
+        try {
+            return MethodHandles.publicLookup().unreflect(method);
+        } catch (IllegalAccessException exception) {
+            return null;
+        }
+    }
+
+    static Getter direct(Getter getter, MethodHandle handle) {
+        if (handle == null) {
+            return getter;
+        }
+
+        return new Getter() {
+
+            @Override
+            public Object get(Mapper mapper, Object source) throws ReflectiveOperationException {
+                return getter.get(mapper, source);
+            }
+
+            @Override
+            public Type getGenericType() {
+                return getter.getGenericType();
+            }
+
+            @Override
+            public MethodHandle getHandle() {
+                return handle;
+            }
+        };
+    }
+
+    static Getter expensive(Getter getter) {
+        return typed(getter.getGenericType(), true, getter);
+    }
+
+    static Getter typed(Type type, boolean expensive, Getter getter) {
+        return new Getter() {
+
+            @Override
+            public Object get(Mapper mapper, Object source) throws ReflectiveOperationException {
+                return getter.get(mapper, source);
+            }
+
+            @Override
+            public Type getGenericType() {
+                return type;
+            }
 
-    static Getter transpose(Method g, Object x) {
-        return () -> g.invoke(x);
+            @Override
+            public boolean isExpensive() {
+                return expensive;
+            }
+        };
     }
 }
@@ -0,0 +1,91 @@
+package org.cleanpojo.ikkon;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+interface GetterEvaluator {
+
+    static Object[] evaluate(Mapper mapper, Object source, PropertyBinding[] bindings)
+            throws ReflectiveOperationException {
+
+        CompletableFuture<?>[] futures = forkExpensiveGetters(mapper, source, bindings);
+        var values = new Object[bindings.length];
+        for (int i = 0; i < bindings.length; i++) {
+            Getter getter = bindings[i].getGetter();
+            if (getter == null) {
+                values[i] = DefaultValue.of(bindings[i].getType());
+            } else if (futures == null || futures[i] == null) {
+                values[i] = getter.get(mapper, source);
+            }
+        }
+
+        if (futures != null) {
+            join(futures, values);
+        }
+
+        return values;
+    }
+
+    private static CompletableFuture<?>[] forkExpensiveGetters(
+            Mapper mapper,
+            Object source,
+            PropertyBinding[] bindings) {
+
+        CompletableFuture<?>[] futures = null;
+        boolean inlined = false;
+        for (int i = 0; i < bindings.length; i++) {
+            Getter getter = bindings[i].getGetter();
+            if (getter == null || getter.isExpensive() == false) {
+                continue;
+            }
+
+            if (inlined == false) {
+                inlined = true;
+                continue;
+            }
+
+            if (futures == null) {
+                futures = new CompletableFuture<?>[bindings.length];
+            }
+
+            futures[i] = supplyAsync(mapper, getter, source);
+        }
+
+        return futures;
+    }
+
+    private static CompletableFuture<Object> supplyAsync(
+            Mapper mapper,
+            Getter getter,
+            Object source) {
+
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return getter.get(mapper, source);
+            } catch (ReflectiveOperationException exception) {
+                throw new CompletionException(exception);
+            }
+        }, mapper.getOptions().getExpensiveGetterExecutor());
+    }
+
+    private static void join(CompletableFuture<?>[] futures, Object[] values)
+            throws ReflectiveOperationException {
+
+        try {
+            for (int i = 0; i < futures.length; i++) {
+                if (futures[i] != null) {
+                    values[i] = futures[i].join();
+                }
+            }
+        } catch (CompletionException exception) {
+            Throwable cause = exception.getCause();
+            if (cause instanceof ReflectiveOperationException) {
+                throw (ReflectiveOperationException)cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException)cause;
+            }
+
+            throw exception;
+        }
+    }
+}
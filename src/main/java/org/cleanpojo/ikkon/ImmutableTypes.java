@@ -0,0 +1,36 @@
+package org.cleanpojo.ikkon;
+
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Set;
+import java.util.UUID;
+
+interface ImmutableTypes {
+
+    Set<Class<?>> VALUE_TYPES = Set.of(
+        String.class,
+        UUID.class,
+        Boolean.class,
+        Character.class,
+        Byte.class,
+        Short.class,
+        Integer.class,
+        Long.class,
+        Float.class,
+        Double.class,
+        BigDecimal.class,
+        BigInteger.class);
+
+    static boolean isImmutable(Class<?> type) {
+        return type.isPrimitive()
+            || type.isEnum()
+            || VALUE_TYPES.contains(type)
+            || isTimeValue(type);
+    }
+
+    private static boolean isTimeValue(Class<?> type) {
+        return type.getPackageName().equals("java.time")
+            && Modifier.isFinal(type.getModifiers());
+    }
+}
@@ -0,0 +1,90 @@
+package org.cleanpojo.ikkon;
+
+import static org.cleanpojo.ikkon.ClassLoaders.canSee;
+
+import java.lang.reflect.Type;
+import java.util.Arrays;
+
+final class InlinePlanCache {
+
+    private static final int POLYMORPHIC_LIMIT = 4;
+
+    private final Type destinationType;
+    private final FieldMask mask;
+    private final Class<?> enclosingSourceType;
+    private final Class<?> enclosingDestinationType;
+    private volatile Entries entries = new Entries(0, new Entry[0], false);
+
+    public InlinePlanCache(
+        final Type destinationType,
+        final FieldMask mask,
+        final Class<?> enclosingSourceType,
+        final Class<?> enclosingDestinationType) {
+
+        this.destinationType = destinationType;
+        this.mask = mask;
+        this.enclosingSourceType = enclosingSourceType;
+        this.enclosingDestinationType = enclosingDestinationType;
+    }
+
+    public MappingPlan get(Mapper mapper, Class<?> sourceType) {
+        int epoch = mapper.getPlanEpoch();
+        Entries entries = this.entries;
+        if (entries.epoch == epoch) {
+            for (Entry entry : entries.entries) {
+                if (entry.sourceType == sourceType) {
+                    return entry.plan;
+                }
+            }
+        } else {
+            entries = new Entries(epoch, new Entry[0], false);
+            this.entries = entries;
+        }
+
+        MappingPlan plan = mapper.getPlan(sourceType, destinationType, mask);
+        if (entries.megamorphic == false && isCacheable(sourceType)) {
+            this.entries = entries.add(new Entry(sourceType, plan));
+        }
+
+        return plan;
+    }
+
+    private boolean isCacheable(Class<?> sourceType) {
+        return canSee(enclosingSourceType, sourceType)
+            || canSee(enclosingDestinationType, sourceType);
+    }
+
+    private static final class Entries {
+
+        private final int epoch;
+        private final Entry[] entries;
+        private final boolean megamorphic;
+
+        Entries(final int epoch, final Entry[] entries, final boolean megamorphic) {
+            this.epoch = epoch;
+            this.entries = entries;
+            this.megamorphic = megamorphic;
+        }
+
+        Entries add(Entry entry) {
+            if (entries.length == POLYMORPHIC_LIMIT) {
+                return new Entries(epoch, entries, true);
+            }
+
+            Entry[] newEntries = Arrays.copyOf(entries, entries.length + 1);
+            newEntries[entries.length] = entry;
+            return new Entries(epoch, newEntries, false);
+        }
+    }
+
+    private static final class Entry {
+
+        private final Class<?> sourceType;
+        private final MappingPlan plan;
+
+        Entry(final Class<?> sourceType, final MappingPlan plan) {
+            this.sourceType = sourceType;
+            this.plan = plan;
+        }
+    }
+}
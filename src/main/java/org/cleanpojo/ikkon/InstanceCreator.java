@@ -1,17 +1,19 @@
 package org.cleanpojo.ikkon;
 
 import static org.cleanpojo.ikkon.ArgumentResolver.resolveArguments;
-import static org.cleanpojo.ikkon.ConstructorResolver.resolveConstructor;
+import static org.cleanpojo.ikkon.Records.newInstance;
 
 import java.lang.reflect.Constructor;
 
 interface InstanceCreator {
 
-    static <T> T createInstance(Object source, Class<T> destination)
+    static Object createInstance(
+            Mapper mapper,
+            Constructor<?> constructor,
+            PropertyBinding[] arguments,
+            Object source)
             throws ReflectiveOperationException {
 
-        Constructor<?> constructor = resolveConstructor(destination);
-        Object[] arguments = resolveArguments(constructor, source);
-        return destination.cast(constructor.newInstance(arguments));
+        return newInstance(constructor, resolveArguments(mapper, arguments, source));
     }
 }
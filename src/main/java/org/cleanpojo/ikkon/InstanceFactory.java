@@ -0,0 +1,6 @@
+package org.cleanpojo.ikkon;
+
+interface InstanceFactory {
+
+    Object create(Mapper mapper, Object source) throws ReflectiveOperationException;
+}
@@ -0,0 +1,109 @@
+package org.cleanpojo.ikkon;
+
+import static org.cleanpojo.ikkon.ArgumentResolver.refineValue;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+final class LazyProxyFactory implements InstanceFactory {
+
+    private static final Object UNRESOLVED = new Object();
+
+    private final Class<?> destinationType;
+    private final Map<Method, Integer> slots;
+    private final PropertyBinding[] properties;
+    private final ConcurrentMap<Method, MethodHandle> defaultMethods = new ConcurrentHashMap<>();
+
+    public LazyProxyFactory(
+        final Class<?> destinationType,
+        final Map<Method, Integer> slots,
+        final PropertyBinding[] properties) {
+
+        this.destinationType = destinationType;
+        this.slots = slots;
+        this.properties = properties;
+    }
+
+    @Override
+    public Object create(Mapper mapper, Object source) {
+        return Proxy.newProxyInstance(
+            destinationType.getClassLoader(),
+            new Class<?>[] { destinationType },
+            new LazyPropertyHandler(mapper, source));
+    }
+
+    private final class LazyPropertyHandler implements InvocationHandler {
+
+        private final Mapper mapper;
+        private final Object source;
+        private final AtomicReferenceArray<Object> values;
+
+        LazyPropertyHandler(final Mapper mapper, final Object source) {
+            this.mapper = mapper;
+            this.source = source;
+            this.values = new AtomicReferenceArray<>(properties.length);
+            for (int i = 0; i < properties.length; i++) {
+                values.lazySet(i, UNRESOLVED);
+            }
+        }
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            Integer slot = slots.get(method);
+            if (slot != null) {
+                return resolve(slot);
+            }
+
+            if (method.isDefault()) {
+                Object[] arguments = args == null ? new Object[0] : args;
+                return getDefaultMethod(method).bindTo(proxy).invokeWithArguments(arguments);
+            }
+
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Lazy " + destinationType.getName() + " of " + source;
+                default:
+                    String message = "The method '" + method.getName() + "' is not a property accessor.";
+                    throw new UnsupportedOperationException(message);
+            }
+        }
+
+        private MethodHandle getDefaultMethod(Method method) throws IllegalAccessException {
+            MethodHandle handle = defaultMethods.get(method);
+            if (handle == null) {
+                Class<?> declaringType = method.getDeclaringClass();
+                handle = MethodHandles.privateLookupIn(declaringType, MethodHandles.lookup())
+                    .unreflectSpecial(method, declaringType);
+                defaultMethods.putIfAbsent(method, handle);
+            }
+
+            return handle;
+        }
+
+        private Object resolve(int slot) throws ReflectiveOperationException {
+            Object value = values.get(slot);
+            if (value != UNRESOLVED) {
+                return value;
+            }
+
+            PropertyBinding property = properties[slot];
+            Getter getter = property.getGetter();
+            value = getter == null
+                ? DefaultValue.of(property.getType())
+                : refineValue(mapper, property, getter.get(mapper, source));
+
+            return values.compareAndSet(slot, UNRESOLVED, value) ? value : values.get(slot);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package org.cleanpojo.ikkon;
+
+import static org.cleanpojo.ikkon.UnflatteningGetterSelector.isUnflattenable;
+
+import java.util.Map;
+
+final class MapGetterSelector implements GetterSelector {
+
+    private final PlanCompiler compiler;
+
+    public MapGetterSelector(final PlanCompiler compiler) {
+        this.compiler = compiler;
+    }
+
+    @Override
+    public Getter select(Class<?> sourceType, PropertyHint property) {
+        if (Map.class.isAssignableFrom(sourceType) == false) {
+            return null;
+        }
+
+        MapKeyPath path = MapKeyPath.compile(property.getName());
+        if (isUnflattenable(property) == false) {
+            return (mapper, source) -> path.lookup(MapKeyIndex.of(source));
+        }
+
+        var unflattened = new UnflattenedPlan(compiler, sourceType, property);
+        return (mapper, source) -> {
+            MapKeyIndex index = MapKeyIndex.of(source);
+            Object value = path.lookup(index);
+            return value == Getter.ABSENT && path.isPrefixOf(index) ? unflattened.execute(mapper, index) : value;
+        };
+    }
+
+    private static final class UnflattenedPlan {
+
+        private final PlanCompiler compiler;
+        private final Class<?> sourceType;
+        private final PropertyHint property;
+        private volatile MappingPlan plan;
+
+        UnflattenedPlan(
+            final PlanCompiler compiler,
+            final Class<?> sourceType,
+            final PropertyHint property) {
+
+            this.compiler = compiler;
+            this.sourceType = sourceType;
+            this.property = property;
+        }
+
+        Object execute(Mapper mapper, Object source) throws ReflectiveOperationException {
+            MappingPlan plan = this.plan;
+            if (plan == null) {
+                plan = compiler.compile(
+                    sourceType,
+                    property.getGenericType(),
+                    property.getName(),
+                    property.getMask());
+                this.plan = plan;
+            }
+
+            return plan.execute(mapper, source);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package org.cleanpojo.ikkon;
+
+import static org.cleanpojo.ikkon.MapKeyPath.normalize;
+import static org.cleanpojo.ikkon.MapKeyPath.splitWords;
+
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+final class MapKeyIndex {
+
+    private final Map<?, ?> map;
+    private final Map<String, Object> values;
+    private final boolean nested;
+    private volatile Set<String> prefixes;
+    private volatile Map<String, MapKeyIndex> nestedIndexes;
+
+    private MapKeyIndex(final Map<?, ?> map) {
+        this.map = map;
+        this.values = new HashMap<>(map.size() * 4 / 3 + 1);
+        boolean nested = false;
+        for (Map.Entry<?, ?> entry : map.entrySet()) {
+            if (entry.getKey() instanceof String) {
+                String key = normalize((String) entry.getKey());
+                if (values.get(key) == null) {
+                    values.put(key, entry.getValue());
+                }
+
+                nested |= entry.getValue() instanceof Map<?, ?>;
+            }
+        }
+
+        this.nested = nested;
+    }
+
+    public static MapKeyIndex of(Object source) {
+        return source instanceof MapKeyIndex
+            ? (MapKeyIndex) source
+            : new MapKeyIndex((Map<?, ?>) source);
+    }
+
+    public Object get(String key) {
+        Object value = values.get(key);
+        return value != null || values.containsKey(key) ? value : Getter.ABSENT;
+    }
+
+    public boolean hasNestedMaps() {
+        return nested;
+    }
+
+    public MapKeyIndex getNested(String key) {
+        Object value = values.get(key);
+        if (value instanceof Map<?, ?> == false) {
+            return null;
+        }
+
+        Map<String, MapKeyIndex> indexes = nestedIndexes;
+        if (indexes == null) {
+            indexes = new ConcurrentHashMap<>();
+            nestedIndexes = indexes;
+        }
+
+        return indexes.computeIfAbsent(key, k -> new MapKeyIndex((Map<?, ?>) value));
+    }
+
+    public boolean hasPrefix(String prefix) {
+        Set<String> prefixes = this.prefixes;
+        if (prefixes == null) {
+            prefixes = collectPrefixes(map);
+            this.prefixes = prefixes;
+        }
+
+        return prefixes.contains(prefix);
+    }
+
+    private static Set<String> collectPrefixes(Map<?, ?> map) {
+        var prefixes = new HashSet<String>();
+        for (Object key : map.keySet()) {
+            if (key instanceof String) {
+                List<String> words = splitWords((String) key);
+                var prefix = new StringBuilder();
+                for (String word : words.subList(0, words.size() - 1)) {
+                    prefixes.add(prefix.append(word).toString());
+                }
+            }
+        }
+
+        return prefixes;
+    }
+}
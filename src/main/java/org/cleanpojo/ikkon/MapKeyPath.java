@@ -0,0 +1,126 @@
+package org.cleanpojo.ikkon;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+
+final class MapKeyPath {
+
+    private final String key;
+    private final String[] heads;
+    private final MapKeyPath[] tails;
+
+    private MapKeyPath(final String key, final String[] heads, final MapKeyPath[] tails) {
+        this.key = key;
+        this.heads = heads;
+        this.tails = tails;
+    }
+
+    public static MapKeyPath compile(String propertyName) {
+        List<String> words = splitWords(propertyName);
+        return compile(words, 0, new MapKeyPath[words.size()]);
+    }
+
+    private static MapKeyPath compile(List<String> words, int start, MapKeyPath[] compiled) {
+        if (compiled[start] != null) {
+            return compiled[start];
+        }
+
+        int splits = words.size() - start - 1;
+        var heads = new String[splits];
+        var tails = new MapKeyPath[splits];
+        for (int i = 0; i < splits; i++) {
+            int end = start + i + 1;
+            heads[i] = String.join("", words.subList(start, end));
+            tails[i] = compile(words, end, compiled);
+        }
+
+        compiled[start] = new MapKeyPath(String.join("", words.subList(start, words.size())), heads, tails);
+        return compiled[start];
+    }
+
+    public static String[] spellings(String propertyName) {
+        return spell(splitWords(propertyName));
+    }
+
+    public Object lookup(MapKeyIndex index) {
+        Object value = index.get(key);
+        if (value != Getter.ABSENT || index.hasNestedMaps() == false) {
+            return value;
+        }
+
+        for (int i = 0; i < heads.length; i++) {
+            MapKeyIndex nestedIndex = index.getNested(heads[i]);
+            if (nestedIndex != null) {
+                Object nestedValue = tails[i].lookup(nestedIndex);
+                if (nestedValue != Getter.ABSENT) {
+                    return nestedValue;
+                }
+            }
+        }
+
+        return Getter.ABSENT;
+    }
+
+    public boolean isPrefixOf(MapKeyIndex index) {
+        return index.hasPrefix(key);
+    }
+
+    static String normalize(String key) {
+        var normalized = new StringBuilder(key.length());
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (c != '_' && c != '-') {
+                normalized.append(Character.toLowerCase(c));
+            }
+        }
+
+        return normalized.toString();
+    }
+
+    private static String[] spell(List<String> words) {
+        var camel = new StringBuilder(words.get(0));
+        var pascal = new StringBuilder(capitalize(words.get(0)));
+        for (String word : words.subList(1, words.size())) {
+            camel.append(capitalize(word));
+            pascal.append(capitalize(word));
+        }
+
+        var spellings = new LinkedHashSet<String>();
+        spellings.add(camel.toString());
+        spellings.add(String.join("_", words));
+        spellings.add(pascal.toString());
+        spellings.add(String.join("-", words));
+        return spellings.toArray(new String[0]);
+    }
+
+    static List<String> splitWords(String name) {
+        var words = new ArrayList<String>();
+        var word = new StringBuilder();
+        for (int i = 0; i < name.length(); i++) {
+            char c = name.charAt(i);
+            boolean boundary = c == '_' || c == '-';
+            boolean wordStart = Character.isUpperCase(c)
+                && i > 0
+                && Character.isLowerCase(name.charAt(i - 1));
+            if ((boundary || wordStart) && word.length() > 0) {
+                words.add(word.toString());
+                word.setLength(0);
+            }
+
+            if (boundary == false) {
+                word.append(Character.toLowerCase(c));
+            }
+        }
+
+        if (word.length() > 0 || words.isEmpty()) {
+            words.add(word.toString());
+        }
+
+        return words;
+    }
+
+    private static String capitalize(String word) {
+        return word.isEmpty() ? word : Character.toUpperCase(word.charAt(0)) + word.substring(1);
+    }
+}
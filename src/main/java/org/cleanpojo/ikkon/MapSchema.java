@@ -0,0 +1,43 @@
+package org.cleanpojo.ikkon;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+final class MapSchema {
+
+    private final String[] keys;
+    private final Map<String, Integer> index;
+    private final Set<String> keySet;
+
+    public MapSchema(final String[] keys) {
+        this.keys = keys;
+        var index = new HashMap<String, Integer>();
+        for (int i = 0; i < keys.length; i++) {
+            index.put(keys[i], i);
+        }
+
+        this.index = Map.copyOf(index);
+        this.keySet = Collections.unmodifiableSet(new LinkedHashSet<>(Arrays.asList(keys)));
+    }
+
+    public int size() {
+        return keys.length;
+    }
+
+    public String keyAt(int slot) {
+        return keys[slot];
+    }
+
+    public int slotOf(Object key) {
+        Integer slot = index.get(key);
+        return slot == null ? -1 : slot;
+    }
+
+    public Set<String> keySet() {
+        return keySet;
+    }
+}
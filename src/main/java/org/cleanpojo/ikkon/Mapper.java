@@ -1,21 +1,222 @@
 package org.cleanpojo.ikkon;
 
-import static org.cleanpojo.ikkon.InstanceCreator.createInstance;
-import static org.cleanpojo.ikkon.PropertySetter.setProperties;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Function;
 
 public class Mapper {
 
+    private final MapperOptions options;
+    private final PlanCompiler compiler;
+    private final PlanCache plans;
+    private final EventPlanCompiler eventPlans;
+    private final RowPlanCompiler rowPlans;
+    private final PlanKind slots;
+    private final PlanKind converters;
+    private final ColumnarPlanCompiler columnarPlans;
+
+    public Mapper() {
+        this(new MapperOptions());
+    }
+
+    public Mapper(final MapperOptions options) {
+        this.options = options;
+        this.compiler = new PlanCompiler(options);
+        this.plans = new PlanCache(compiler, options.getPlanCacheSize());
+        this.eventPlans = new EventPlanCompiler(compiler);
+        this.rowPlans = new RowPlanCompiler(this, compiler);
+        this.slots = (sourceType, destinationType) -> DestinationSlots.of(
+            destinationType,
+            options.isFieldAccess());
+        this.columnarPlans = new ColumnarPlanCompiler(compiler);
+        this.converters = compiler::findConverter;
+    }
+
+    MapperOptions getOptions() {
+        return options;
+    }
+
     public <T> T map(Object source, Class<T> destination) {
         return source == null ? null : mapObject(source, destination);
     }
 
-    private static <T> T mapObject(Object source, Class<T> destination) {
+    private <T> T mapObject(Object source, Class<T> destination) {
+        Class<?> sourceType = source instanceof Enum<?>
+            ? ((Enum<?>) source).getDeclaringClass()
+            : source.getClass();
+        if (isEnumConversion(sourceType, destination)) {
+            return destination.cast(convertEnum(source, sourceType, destination));
+        }
+
+        try {
+            MappingPlan plan = getPlan(source.getClass(), destination);
+            return destination.cast(plan.execute(this, source));
+        } catch (ReflectiveOperationException exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+
+    private static boolean isEnumConversion(Class<?> sourceType, Class<?> destination) {
+        return (sourceType.isEnum() && (destination.isEnum() || destination.equals(String.class)))
+            || (sourceType.equals(String.class) && destination.isEnum());
+    }
+
+    @SuppressWarnings("unchecked")
+    private Object convertEnum(Object source, Class<?> sourceType, Class<?> destination) {
+        if (sourceType.equals(destination)) {
+            return source;
+        }
+
+        var converter = (Function<Object, Object>) plans.get(sourceType, destination, converters);
+        return converter.apply(source);
+    }
+
+    public <T> T map(Object source, Class<T> destination, FieldMask mask) {
+        if (source == null) {
+            return null;
+        }
+
+        try {
+            MappingPlan plan = getPlan(source.getClass(), destination, mask);
+            return destination.cast(plan.execute(this, source));
+        } catch (ReflectiveOperationException exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+
+    public <T> T map(Object source, T target) {
+        requireTarget(target);
+        if (source != null) {
+            mapOnto(source, target);
+        }
+
+        return target;
+    }
+
+    private void mapOnto(Object source, Object target) {
         try {
-            T instance = createInstance(source, destination);
-            setProperties(instance, source);
-            return instance;
+            getPlan(source.getClass(), target.getClass()).apply(this, source, target);
         } catch (ReflectiveOperationException exception) {
             throw new RuntimeException(exception);
         }
     }
+
+    static void requireTarget(Object target) {
+        if (target == null) {
+            String message = "The target cannot be null. Map to a class to create a new instance instead.";
+            throw new IllegalArgumentException(message);
+        }
+    }
+
+    public <T> T read(EventReader reader, Class<T> destination) {
+        PullEvent event = reader.next();
+        if (event == PullEvent.END_OF_INPUT) {
+            return null;
+        }
+
+        try {
+            return destination.cast(eventPlans.get(this, destination).read(this, reader, event));
+        } catch (ReflectiveOperationException exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+
+    public <T> List<T> mapRows(RowSource rows, Class<T> destination) {
+        var results = new ArrayList<T>();
+        forEachRow(rows, destination, results::add);
+        return results;
+    }
+
+    public <T> void forEachRow(RowSource rows, Class<T> destination, Consumer<? super T> action) {
+        RowBinding binding = rowPlans.bind(destination, rows.getColumnNames());
+        try {
+            while (rows.next()) {
+                action.accept(destination.cast(binding.read(rows)));
+            }
+        } catch (ReflectiveOperationException exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+
+    public Columns toColumns(List<?> sources, Class<?> schema) {
+        return columnarPlans.toColumns(this, sources, schema);
+    }
+
+    public <T> List<T> fromColumns(Columns columns, Class<T> destination) {
+        return mapRows(columns.toRowSource(), destination);
+    }
+
+    public PatchResult patch(Object source, Object target) {
+        boolean skipNulls = false;
+        return patch(source, target, skipNulls);
+    }
+
+    public PatchResult patch(Object source, Object target, boolean skipNulls) {
+        requireTarget(target);
+        if (source == null) {
+            return new PatchResult(List.of());
+        }
+
+        try {
+            MappingPlan plan = getPlan(source.getClass(), target.getClass());
+            return new PatchResult(plan.patch(this, source, target, skipNulls));
+        } catch (ReflectiveOperationException exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+
+    MappingPlan getPlan(Class<?> source, Class<?> destination) {
+        return plans.get(source, destination);
+    }
+
+    MappingPlan getPlan(Class<?> source, Class<?> destination, FieldMask mask) {
+        return plans.get(source, destination, mask);
+    }
+
+    Object getCachedPlan(Class<?> source, Class<?> destination, PlanKind kind) {
+        return plans.get(source, destination, kind);
+    }
+
+    DestinationSlots getSlots(Type destination) {
+        if (destination instanceof Class<?>) {
+            Class<?> destinationType = (Class<?>) destination;
+            return (DestinationSlots) plans.get(destinationType, destinationType, slots);
+        }
+
+        return DestinationSlots.of(destination, options.isFieldAccess());
+    }
+
+    MappingPlan getPlan(Class<?> source, Type destination, FieldMask mask) {
+        return plans.get(source, destination, mask);
+    }
+
+    int getPlanEpoch() {
+        return plans.getEpoch();
+    }
+
+    public <S, T> TypedMapper<S, T> forTypes(Class<S> source, Class<T> destination) {
+        return new TypedMapper<S, T>(this, source, destination, FieldMask.all());
+    }
+
+    public <S, T> TypedMapper<S, T> forTypes(
+            Class<S> source,
+            Class<T> destination,
+            FieldMask mask) {
+
+        return new TypedMapper<S, T>(this, source, destination, mask);
+    }
+
+    public void invalidate(Class<?> type) {
+        plans.invalidate(type);
+    }
+
+    public void invalidateAll() {
+        plans.invalidateAll();
+    }
+
+    public PlanCacheStatistics getPlanCacheStatistics() {
+        return plans.getStatistics();
+    }
 }
@@ -0,0 +1,159 @@
+package org.cleanpojo.ikkon;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+public final class MapperOptions {
+
+    private int parallelThreshold;
+    private ForkJoinPool forkJoinPool;
+    private Set<Class<?>> expensiveSourceTypes;
+    private Executor expensiveGetterExecutor;
+    private int planCacheSize;
+    private boolean fieldAccess;
+    private boolean deepClone;
+    private ConverterRegistry converters;
+    private boolean checkedNarrowing;
+
+    public MapperOptions() {
+        parallelThreshold = Integer.MAX_VALUE;
+        forkJoinPool = ForkJoinPool.commonPool();
+        expensiveSourceTypes = Set.of();
+        expensiveGetterExecutor = ForkJoinPool.commonPool();
+        planCacheSize = Integer.MAX_VALUE;
+        fieldAccess = false;
+        deepClone = true;
+        converters = new ConverterRegistry();
+        checkedNarrowing = true;
+    }
+
+    private MapperOptions(final MapperOptions options) {
+        parallelThreshold = options.parallelThreshold;
+        forkJoinPool = options.forkJoinPool;
+        expensiveSourceTypes = options.expensiveSourceTypes;
+        expensiveGetterExecutor = options.expensiveGetterExecutor;
+        planCacheSize = options.planCacheSize;
+        fieldAccess = options.fieldAccess;
+        deepClone = options.deepClone;
+        converters = options.converters;
+        checkedNarrowing = options.checkedNarrowing;
+    }
+
+    public int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    public MapperOptions withParallelThreshold(int threshold) {
+        if (threshold < 1) {
+            String message = "The parallel threshold must be positive.";
+            throw new IllegalArgumentException(message);
+        }
+
+        var options = new MapperOptions(this);
+        options.parallelThreshold = threshold;
+        return options;
+    }
+
+    public ForkJoinPool getForkJoinPool() {
+        return forkJoinPool;
+    }
+
+    public MapperOptions withForkJoinPool(ForkJoinPool pool) {
+        var options = new MapperOptions(this);
+        options.forkJoinPool = pool;
+        return options;
+    }
+
+    public Set<Class<?>> getExpensiveSourceTypes() {
+        return expensiveSourceTypes;
+    }
+
+    public MapperOptions withExpensiveSourceType(Class<?> sourceType) {
+        var sourceTypes = new HashSet<Class<?>>(expensiveSourceTypes);
+        sourceTypes.add(sourceType);
+        var options = new MapperOptions(this);
+        options.expensiveSourceTypes = Set.copyOf(sourceTypes);
+        return options;
+    }
+
+    public Executor getExpensiveGetterExecutor() {
+        return expensiveGetterExecutor;
+    }
+
+    public MapperOptions withExpensiveGetterExecutor(Executor executor) {
+        var options = new MapperOptions(this);
+        options.expensiveGetterExecutor = executor;
+        return options;
+    }
+
+    public int getPlanCacheSize() {
+        return planCacheSize;
+    }
+
+    public MapperOptions withPlanCacheSize(int maximumSize) {
+        if (maximumSize < 1) {
+            String message = "The plan cache size must be positive.";
+            throw new IllegalArgumentException(message);
+        }
+
+        var options = new MapperOptions(this);
+        options.planCacheSize = maximumSize;
+        return options;
+    }
+
+    public boolean isFieldAccess() {
+        return fieldAccess;
+    }
+
+    public MapperOptions withFieldAccess(boolean enabled) {
+        var options = new MapperOptions(this);
+        options.fieldAccess = enabled;
+        return options;
+    }
+
+    public boolean isDeepClone() {
+        return deepClone;
+    }
+
+    public MapperOptions withDeepClone(boolean enabled) {
+        var options = new MapperOptions(this);
+        options.deepClone = enabled;
+        return options;
+    }
+
+    @SuppressWarnings("unchecked")
+    public <S, T> MapperOptions withConverter(
+            Class<S> sourceType,
+            Class<T> targetType,
+            Function<? super S, ? extends T> converter) {
+
+        var options = new MapperOptions(this);
+        options.converters = converters.with(
+            sourceType,
+            targetType,
+            (Function<Object, Object>) converter);
+        return options;
+    }
+
+    public boolean isCheckedNarrowing() {
+        return checkedNarrowing;
+    }
+
+    public MapperOptions withCheckedNarrowing(boolean enabled) {
+        var options = new MapperOptions(this);
+        options.checkedNarrowing = enabled;
+        return options;
+    }
+
+    Function<Object, Object> findConverter(Class<?> sourceType, Class<?> targetType) {
+        return converters.find(sourceType, targetType);
+    }
+
+    boolean isExpensiveSourceType(Class<?> sourceType) {
+        return expensiveSourceTypes.contains(sourceType)
+            || sourceType.isAnnotationPresent(Expensive.class);
+    }
+}
@@ -0,0 +1,154 @@
+package org.cleanpojo.ikkon;
+
+import static org.cleanpojo.ikkon.ConstructorResolver.describeUnresolvableConstructor;
+import static org.cleanpojo.ikkon.GetterEvaluator.evaluate;
+import static org.cleanpojo.ikkon.InstanceCreator.createInstance;
+import static org.cleanpojo.ikkon.PropertySetter.patchProperties;
+import static org.cleanpojo.ikkon.PropertySetter.setProperties;
+
+import java.lang.reflect.Constructor;
+import java.util.List;
+import java.util.Map;
+
+final class MappingPlan {
+
+    private final Class<?> destinationType;
+    private final Constructor<?> constructor;
+    private final PropertyBinding[] arguments;
+    private final PropertyBinding[] properties;
+    private final InstanceFactory instanceFactory;
+    private final boolean mapSource;
+
+    public MappingPlan(
+        final Class<?> destinationType,
+        final Constructor<?> constructor,
+        final PropertyBinding[] arguments,
+        final PropertyBinding[] properties,
+        final boolean mapSource) {
+
+        this(destinationType, constructor, arguments, properties, null, mapSource);
+    }
+
+    public MappingPlan(
+        final Class<?> destinationType,
+        final InstanceFactory instanceFactory,
+        final boolean mapSource) {
+
+        this(
+            destinationType,
+            null,
+            new PropertyBinding[0],
+            new PropertyBinding[0],
+            instanceFactory,
+            mapSource);
+    }
+
+    private MappingPlan(
+        final Class<?> destinationType,
+        final Constructor<?> constructor,
+        final PropertyBinding[] arguments,
+        final PropertyBinding[] properties,
+        final InstanceFactory instanceFactory,
+        final boolean mapSource) {
+
+        this.destinationType = destinationType;
+        this.constructor = constructor;
+        this.arguments = arguments;
+        this.properties = properties;
+        this.instanceFactory = instanceFactory;
+        this.mapSource = mapSource;
+    }
+
+    public Object execute(Mapper mapper, Object source) throws ReflectiveOperationException {
+        Object input = indexKeys(source);
+        if (instanceFactory != null) {
+            return instanceFactory.create(mapper, input);
+        }
+
+        if (constructor == null) {
+            throw new RuntimeException(describeUnresolvableConstructor(destinationType));
+        }
+
+        Object instance = createInstance(mapper, constructor, arguments, input);
+        setProperties(mapper, instance, properties, input);
+        return instance;
+    }
+
+    public List<String> patch(Mapper mapper, Object source, Object target, boolean skipNulls)
+            throws ReflectiveOperationException {
+
+        return patchProperties(mapper, target, properties, indexKeys(source), skipNulls);
+    }
+
+    public boolean isPatchable(Object target) {
+        return instanceFactory == null
+            && arguments.length == 0
+            && properties.length > 0
+            && destinationType.isInstance(target);
+    }
+
+    public boolean isComparable(Object target) {
+        return instanceFactory == null
+            && constructor != null
+            && target.getClass() == destinationType
+            && hasTargetGetters(arguments)
+            && hasTargetGetters(properties);
+    }
+
+    public boolean matches(Mapper mapper, Object source, Object target) throws ReflectiveOperationException {
+        Object input = indexKeys(source);
+        return matchProperties(mapper, arguments, input, target)
+            && matchProperties(mapper, properties, input, target);
+    }
+
+    private static boolean hasTargetGetters(PropertyBinding[] bindings) {
+        for (PropertyBinding binding : bindings) {
+            if (binding.getTargetGetter() == null) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean matchProperties(
+            Mapper mapper,
+            PropertyBinding[] bindings,
+            Object source,
+            Object target)
+            throws ReflectiveOperationException {
+
+        Object[] values = evaluate(mapper, source, bindings);
+        for (int i = 0; i < values.length; i++) {
+            Object current = bindings[i].getTargetGetter().get(mapper, target);
+            if (ValueEquivalence.matches(mapper, bindings[i], current, values[i]) == false) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    public void apply(Mapper mapper, Object source, Object target) throws ReflectiveOperationException {
+        if (instanceFactory != null || properties.length == 0) {
+            throw new IllegalArgumentException(describeUnappliableTarget());
+        }
+
+        setProperties(mapper, target, properties, indexKeys(source));
+    }
+
+    private Object indexKeys(Object source) {
+        return mapSource && source instanceof Map<?, ?> ? MapKeyIndex.of(source) : source;
+    }
+
+    private String describeUnappliableTarget() {
+        String name = "'" + destinationType.getName() + "'";
+        if (Map.class.isAssignableFrom(destinationType)) {
+            return "Cannot map onto the map " + name + ". Map to Map.class to export properties instead.";
+        } else if (instanceFactory != null) {
+            return "Cannot map onto " + name + " because it is created through its builder.";
+        } else {
+            return "Cannot map onto " + name + " because it has no writable properties.";
+        }
+    }
+}
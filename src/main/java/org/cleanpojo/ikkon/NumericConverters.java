@@ -0,0 +1,162 @@
+package org.cleanpojo.ikkon;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToLongFunction;
+
+interface NumericConverters {
+
+    Map<Class<?>, Class<?>> PRIMITIVES = Map.of(
+        Byte.class, byte.class,
+        Short.class, short.class,
+        Integer.class, int.class,
+        Long.class, long.class,
+        Float.class, float.class,
+        Double.class, double.class);
+
+    static Function<Object, Object> find(Class<?> sourceType, Class<?> targetType, boolean checked) {
+        Class<?> source = PRIMITIVES.getOrDefault(sourceType, sourceType);
+        Class<?> target = PRIMITIVES.getOrDefault(targetType, targetType);
+        if (isNumeric(source) == false || isNumeric(target) == false || source.equals(target)) {
+            return null;
+        }
+
+        return isIntegral(source)
+            ? fromIntegral(integralReader(source), target, checked)
+            : fromFloating(floatingReader(source), target, checked);
+    }
+
+    static long toLongExact(Number value) {
+        try {
+            if (value instanceof Double || value instanceof Float) {
+                double x = value.doubleValue();
+                if (x != Math.rint(x) || x < -0x1p63 || x >= 0x1p63) {
+                    throwLossy(value);
+                }
+
+                return (long) x;
+            } else if (value instanceof BigDecimal) {
+                return ((BigDecimal) value).longValueExact();
+            } else if (value instanceof BigInteger) {
+                return ((BigInteger) value).longValueExact();
+            }
+        } catch (ArithmeticException exception) {
+            return (long) throwLossy(value);
+        }
+
+        return value.longValue();
+    }
+
+    private static boolean isNumeric(Class<?> type) {
+        return PRIMITIVES.containsValue(type);
+    }
+
+    private static boolean isIntegral(Class<?> type) {
+        return type.equals(float.class) == false && type.equals(double.class) == false;
+    }
+
+    private static ToLongFunction<Object> integralReader(Class<?> source) {
+        return source.equals(byte.class) ? value -> (Byte) value
+             : source.equals(short.class) ? value -> (Short) value
+             : source.equals(int.class) ? value -> (Integer) value
+             : value -> (Long) value;
+    }
+
+    private static ToDoubleFunction<Object> floatingReader(Class<?> source) {
+        return source.equals(float.class)
+            ? value -> (Float) value
+            : value -> (Double) value;
+    }
+
+    private static Function<Object, Object> fromIntegral(
+            ToLongFunction<Object> read,
+            Class<?> target,
+            boolean checked) {
+
+        if (target.equals(byte.class)) {
+            return value -> {
+                long x = read.applyAsLong(value);
+                return checked && (byte) x != x ? throwOverflow(x, target) : (byte) x;
+            };
+        } else if (target.equals(short.class)) {
+            return value -> {
+                long x = read.applyAsLong(value);
+                return checked && (short) x != x ? throwOverflow(x, target) : (short) x;
+            };
+        } else if (target.equals(int.class)) {
+            return value -> {
+                long x = read.applyAsLong(value);
+                return checked && (int) x != x ? throwOverflow(x, target) : (int) x;
+            };
+        } else if (target.equals(long.class)) {
+            return value -> read.applyAsLong(value);
+        } else if (target.equals(float.class)) {
+            return value -> (float) read.applyAsLong(value);
+        } else {
+            return value -> (double) read.applyAsLong(value);
+        }
+    }
+
+    private static Function<Object, Object> fromFloating(
+            ToDoubleFunction<Object> read,
+            Class<?> target,
+            boolean checked) {
+
+        if (target.equals(byte.class)) {
+            return value -> {
+                double x = read.applyAsDouble(value);
+                return checked && isInRange(x, Byte.MIN_VALUE, Byte.MAX_VALUE) == false
+                    ? throwOverflow(x, target)
+                    : (byte) (int) x;
+            };
+        } else if (target.equals(short.class)) {
+            return value -> {
+                double x = read.applyAsDouble(value);
+                return checked && isInRange(x, Short.MIN_VALUE, Short.MAX_VALUE) == false
+                    ? throwOverflow(x, target)
+                    : (short) (int) x;
+            };
+        } else if (target.equals(int.class)) {
+            return value -> {
+                double x = read.applyAsDouble(value);
+                return checked && isInRange(x, Integer.MIN_VALUE, Integer.MAX_VALUE) == false
+                    ? throwOverflow(x, target)
+                    : (int) x;
+            };
+        } else if (target.equals(long.class)) {
+            return value -> {
+                double x = read.applyAsDouble(value);
+                return checked && (Double.isNaN(x) || x < -0x1p63 || x >= 0x1p63)
+                    ? throwOverflow(x, target)
+                    : (long) x;
+            };
+        } else if (target.equals(float.class)) {
+            return value -> {
+                double x = read.applyAsDouble(value);
+                float f = (float) x;
+                return checked && Float.isInfinite(f) && Double.isInfinite(x) == false
+                    ? throwOverflow(x, target)
+                    : f;
+            };
+        } else {
+            return value -> read.applyAsDouble(value);
+        }
+    }
+
+    private static boolean isInRange(double x, long min, long max) {
+        return x >= min && x <= max;
+    }
+
+    private static Object throwLossy(Object value) {
+        String message = "The value '" + value + "' cannot be converted to 'long' without loss.";
+        throw new ArithmeticException(message);
+    }
+
+    private static Object throwOverflow(Object value, Class<?> target) {
+        String message = "The value '" + value + "' overflows '" + target.getName() + "'.";
+        throw new ArithmeticException(message);
+    }
+}
@@ -0,0 +1,52 @@
+package org.cleanpojo.ikkon;
+
+import static org.cleanpojo.ikkon.ValueReader.skip;
+import static org.cleanpojo.ikkon.ValueReader.unexpected;
+
+import java.util.Map;
+
+final class ObjectReader implements ValueReader {
+
+    private final DestinationSlots slots;
+    private final Map<String, Integer> indexes;
+    private final ValueReader[] readers;
+
+    public ObjectReader(
+        final DestinationSlots slots,
+        final Map<String, Integer> indexes,
+        final ValueReader[] readers) {
+
+        this.slots = slots;
+        this.indexes = indexes;
+        this.readers = readers;
+    }
+
+    @Override
+    public Object read(Mapper mapper, EventReader reader, PullEvent event) throws ReflectiveOperationException {
+        if (event == PullEvent.VALUE && reader.getValue() == null) {
+            return null;
+        }
+
+        if (event != PullEvent.START_OBJECT) {
+            throw unexpected(PullEvent.START_OBJECT, event);
+        }
+
+        var values = new Object[readers.length];
+        var present = new boolean[readers.length];
+        for (event = reader.next(); event != PullEvent.END_OBJECT; event = reader.next()) {
+            if (event != PullEvent.FIELD_NAME) {
+                throw unexpected(PullEvent.FIELD_NAME, event);
+            }
+
+            Integer slot = indexes.get(reader.getFieldName());
+            if (slot == null) {
+                skip(reader, reader.next());
+            } else {
+                values[slot] = readers[slot].read(mapper, reader, reader.next());
+                present[slot] = true;
+            }
+        }
+
+        return slots.createInstance(values, present);
+    }
+}
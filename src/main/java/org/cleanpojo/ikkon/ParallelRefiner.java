@@ -0,0 +1,81 @@
+package org.cleanpojo.ikkon;
+
+import static org.cleanpojo.ikkon.ArgumentResolver.refineValue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+interface ParallelRefiner {
+
+    static boolean isWorthForking(MapperOptions options, Object[] values) {
+        if (values.length < 2) {
+            return false;
+        }
+
+        long weight = 0;
+        for (Object value : values) {
+            weight += value instanceof Collection<?> ? ((Collection<?>)value).size() : 1;
+        }
+
+        return weight >= options.getParallelThreshold();
+    }
+
+    static boolean isWorthSplitting(MapperOptions options, int size) {
+        return size > options.getParallelThreshold();
+    }
+
+    static Object[] refineValues(Mapper mapper, PropertyBinding[] bindings, Object[] values) {
+        var refinedValues = new Object[values.length];
+        var tasks = new ArrayList<ForkJoinTask<?>>(values.length);
+        for (int i = 0; i < values.length; i++) {
+            int index = i;
+            tasks.add(ForkJoinTask.adapt(() -> {
+                refinedValues[index] = refineValue(mapper, bindings[index], values[index]);
+            }));
+        }
+
+        invoke(mapper.getOptions(), ForkJoinTask.adapt(() -> ForkJoinTask.invokeAll(tasks)));
+        return refinedValues;
+    }
+
+    static Object[] refineElements(Mapper mapper, PropertyBinding element, Object[] items) {
+        var refinedItems = new Object[items.length];
+        int leafSize = mapper.getOptions().getParallelThreshold();
+        invoke(mapper.getOptions(), refineRange(mapper, element, items, refinedItems, 0, items.length, leafSize));
+        return refinedItems;
+    }
+
+    private static ForkJoinTask<?> refineRange(
+            Mapper mapper,
+            PropertyBinding element,
+            Object[] items,
+            Object[] refinedItems,
+            int from,
+            int to,
+            int leafSize) {
+
+        return ForkJoinTask.adapt(() -> {
+            if (to - from <= leafSize) {
+                for (int i = from; i < to; i++) {
+                    refinedItems[i] = refineValue(mapper, element, items[i]);
+                }
+            } else {
+                int middle = (from + to) >>> 1;
+                ForkJoinTask.invokeAll(
+                    refineRange(mapper, element, items, refinedItems, from, middle, leafSize),
+                    refineRange(mapper, element, items, refinedItems, middle, to, leafSize));
+            }
+        });
+    }
+
+    private static void invoke(MapperOptions options, ForkJoinTask<?> task) {
+        ForkJoinPool pool = options.getForkJoinPool();
+        if (ForkJoinTask.getPool() == pool) {
+            task.invoke();
+        } else {
+            pool.invoke(task);
+        }
+    }
+}
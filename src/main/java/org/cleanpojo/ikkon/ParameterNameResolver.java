@@ -1,12 +1,20 @@
 package org.cleanpojo.ikkon;
 
+import static org.cleanpojo.ikkon.Records.getAccessors;
+import static org.cleanpojo.ikkon.Records.isCanonicalConstructor;
+
 import java.beans.ConstructorProperties;
 import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
 import java.lang.reflect.Parameter;
 
 interface ParameterNameResolver {
 
     static String[] resolveParameterNames(Constructor<?> constructor) {
+        if (isCanonicalConstructor(constructor)) {
+            return getComponentNames(constructor.getDeclaringClass());
+        }
+
         ConstructorProperties namesProvider = constructor.getAnnotation(ConstructorProperties.class);
         return namesProvider == null
             ? reflectParameterNames(constructor)
@@ -32,6 +40,16 @@ interface ParameterNameResolver {
         return parameter.getName();
     }
 
+    private static String[] getComponentNames(Class<?> recordType) {
+        Method[] accessors = getAccessors(recordType);
+        var componentNames = new String[accessors.length];
+        for (int i = 0; i < accessors.length; i++) {
+            componentNames[i] = accessors[i].getName();
+        }
+
+        return componentNames;
+    }
+
     private static String[] getParameterNamesFromProvider(ConstructorProperties namesProvider) {
         return namesProvider.value();
     }
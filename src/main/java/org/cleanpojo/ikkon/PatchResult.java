@@ -0,0 +1,20 @@
+package org.cleanpojo.ikkon;
+
+import java.util.List;
+
+public final class PatchResult {
+
+    private final List<String> changedProperties;
+
+    public PatchResult(final List<String> changedProperties) {
+        this.changedProperties = List.copyOf(changedProperties);
+    }
+
+    public List<String> getChangedProperties() {
+        return changedProperties;
+    }
+
+    public boolean isChanged() {
+        return changedProperties.isEmpty() == false;
+    }
+}
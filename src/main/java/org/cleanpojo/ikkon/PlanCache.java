@@ -0,0 +1,350 @@
+package org.cleanpojo.ikkon;
+
+import static org.cleanpojo.ikkon.ClassLoaders.canSee;
+import static org.cleanpojo.ikkon.Types.rawType;
+
+import java.lang.ref.Reference;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Type;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+final class PlanCache {
+
+    private final PlanCompiler compiler;
+    private final PlanKind plans;
+    private final int maximumSize;
+    private volatile Generation generation = new Generation();
+    private final AtomicInteger epoch = new AtomicInteger();
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder waits = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder uncached = new LongAdder();
+
+    public PlanCache(final PlanCompiler compiler, final int maximumSize) {
+        this.compiler = compiler;
+        this.plans = new ProjectionKind(compiler, FieldMask.all());
+        this.maximumSize = maximumSize;
+    }
+
+    public MappingPlan get(Class<?> sourceType, Class<?> destinationType) {
+        return (MappingPlan) get(sourceType, destinationType, plans);
+    }
+
+    public MappingPlan get(Class<?> sourceType, Class<?> destinationType, FieldMask mask) {
+        return mask.isAll()
+            ? get(sourceType, destinationType)
+            : (MappingPlan) get(sourceType, destinationType, new ProjectionKind(compiler, mask));
+    }
+
+    public MappingPlan get(Class<?> sourceType, Type destinationType, FieldMask mask) {
+        return destinationType instanceof Class<?>
+            ? get(sourceType, (Class<?>) destinationType, mask)
+            : (MappingPlan) get(sourceType, rawType(destinationType), new GenericKind(compiler, destinationType, mask));
+    }
+
+    public Object get(Class<?> sourceType, Class<?> destinationType, PlanKind kind) {
+        Generation generation = this.generation;
+        PlanEntry entry = generation.find(sourceType, destinationType, kind);
+        if (entry != null && entry.isDone()) {
+            hits.increment();
+            entry.markReferenced();
+            return join(entry);
+        }
+
+        return getOrCompile(generation, sourceType, destinationType, kind);
+    }
+
+    private Object getOrCompile(
+            Generation generation,
+            Class<?> sourceType,
+            Class<?> destinationType,
+            PlanKind kind) {
+
+        var entry = new PlanEntry(() -> kind.compile(sourceType, destinationType));
+        if (generation.bind(entry, sourceType, destinationType, kind) == false) {
+            uncached.increment();
+            return kind.compile(sourceType, destinationType);
+        }
+
+        PlanEntry existing = entry.plans.putIfAbsent(entry.key, entry);
+        if (existing == null) {
+            misses.increment();
+            entry.run();
+            generation.track(entry);
+        } else if (existing.isDone()) {
+            hits.increment();
+            existing.markReferenced();
+            entry = existing;
+        } else {
+            waits.increment();
+            entry = existing;
+        }
+
+        try {
+            return join(entry);
+        } catch (RuntimeException | Error exception) {
+            entry.plans.remove(entry.key, entry);
+            throw exception;
+        }
+    }
+
+    private static Object join(FutureTask<Object> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException(exception);
+        } catch (ExecutionException exception) {
+            Throwable cause = exception.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException)cause;
+            } else if (cause instanceof Error) {
+                throw (Error)cause;
+            }
+
+            throw new RuntimeException(cause);
+        }
+    }
+
+    public void invalidate(Class<?> type) {
+        generation.invalidate(type);
+        epoch.incrementAndGet();
+    }
+
+    public void invalidateAll() {
+        generation = new Generation();
+        epoch.incrementAndGet();
+    }
+
+    public int getEpoch() {
+        return epoch.get();
+    }
+
+    public PlanCacheStatistics getStatistics() {
+        return new PlanCacheStatistics(
+            hits.sum(),
+            misses.sum(),
+            waits.sum(),
+            evictions.sum(),
+            uncached.sum());
+    }
+
+    private Object key(Class<?> type, PlanKind kind) {
+        return kind == plans ? type : new KindKey(type, kind);
+    }
+
+    private static boolean isKeyOf(Object key, Class<?> type) {
+        if (key instanceof KindKey) {
+            var kindKey = (KindKey) key;
+            return kindKey.type == type || kindKey.kind.getDependencies().contains(type);
+        }
+
+        return key == type;
+    }
+
+    private static final class PlanEntry extends FutureTask<Object> {
+
+        private ConcurrentMap<Object, PlanEntry> plans;
+        private Object key;
+        private volatile boolean referenced;
+
+        PlanEntry(final Callable<Object> compilation) {
+            super(compilation);
+        }
+
+        void markReferenced() {
+            if (referenced == false) {
+                referenced = true;
+            }
+        }
+
+        boolean isCached() {
+            return plans.get(key) == this;
+        }
+    }
+
+    private final class Generation {
+
+        private final ClassValue<ConcurrentMap<Object, PlanEntry>> bySource = new PlansPerClass();
+        private final ClassValue<ConcurrentMap<Object, PlanEntry>> byDestination = new PlansPerClass();
+
+        private final ConcurrentMap<Class<?>, ConcurrentMap<Object, PlanEntry>> byMapper =
+            new ConcurrentHashMap<>();
+
+        private final ClassValue<Set<Reference<Class<?>>>> owners = new ClassValue<>() {
+
+            @Override
+            protected Set<Reference<Class<?>>> computeValue(Class<?> type) {
+                return ConcurrentHashMap.newKeySet();
+            }
+        };
+
+        private final Queue<Reference<PlanEntry>> clock = new ConcurrentLinkedQueue<>();
+        private final AtomicInteger size = new AtomicInteger();
+        private final AtomicBoolean sweeping = new AtomicBoolean();
+
+        PlanEntry find(Class<?> sourceType, Class<?> destinationType, PlanKind kind) {
+            PlanEntry entry = bySource.get(sourceType).get(key(destinationType, kind));
+            if (entry == null) {
+                entry = byDestination.get(destinationType).get(key(sourceType, kind));
+            }
+
+            if (entry == null) {
+                var plans = byMapper.get(sourceType);
+                entry = plans == null ? null : plans.get(key(destinationType, kind));
+            }
+
+            return entry;
+        }
+
+        boolean bind(PlanEntry entry, Class<?> sourceType, Class<?> destinationType, PlanKind kind) {
+            if (canHold(sourceType, destinationType, kind)) {
+                registerOwner(destinationType, sourceType);
+                registerDependencies(kind, sourceType);
+                entry.plans = bySource.get(sourceType);
+                entry.key = key(destinationType, kind);
+            } else if (canHold(destinationType, sourceType, kind)) {
+                registerOwner(sourceType, destinationType);
+                registerDependencies(kind, destinationType);
+                entry.plans = byDestination.get(destinationType);
+                entry.key = key(sourceType, kind);
+            } else if (canHold(PlanCache.class, sourceType, kind) && canSee(PlanCache.class, destinationType)) {
+                entry.plans = byMapper.computeIfAbsent(sourceType, type -> new ConcurrentHashMap<>());
+                entry.key = key(destinationType, kind);
+            } else {
+                return false;
+            }
+
+            return true;
+        }
+
+        private boolean canHold(Class<?> holder, Class<?> type, PlanKind kind) {
+            if (canSee(holder, type) == false || canSee(holder, PlanCache.class) == false) {
+                return false;
+            }
+
+            for (Class<?> dependency : kind.getDependencies()) {
+                if (canSee(holder, dependency) == false) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+
+        private void registerDependencies(PlanKind kind, Class<?> owner) {
+            for (Class<?> dependency : kind.getDependencies()) {
+                registerOwner(dependency, owner);
+            }
+        }
+
+        private void registerOwner(Class<?> key, Class<?> owner) {
+            if (key != owner) {
+                owners.get(key).add(new WeakReference<>(owner));
+            }
+        }
+
+        void track(PlanEntry entry) {
+            if (maximumSize == Integer.MAX_VALUE) {
+                return;
+            }
+
+            clock.offer(new WeakReference<>(entry));
+            if (size.incrementAndGet() > maximumSize) {
+                sweep();
+            }
+        }
+
+        private void sweep() {
+            if (sweeping.compareAndSet(false, true) == false) {
+                return;
+            }
+
+            try {
+                while (size.get() > maximumSize) {
+                    Reference<PlanEntry> reference = clock.poll();
+                    if (reference == null) {
+                        return;
+                    }
+
+                    PlanEntry entry = reference.get();
+                    if (entry == null || entry.isCached() == false) {
+                        size.decrementAndGet();
+                    } else if (entry.referenced) {
+                        entry.referenced = false;
+                        clock.offer(reference);
+                    } else if (entry.plans.remove(entry.key, entry)) {
+                        size.decrementAndGet();
+                        evictions.increment();
+                    }
+                }
+            } finally {
+                sweeping.set(false);
+            }
+        }
+
+        void invalidate(Class<?> type) {
+            bySource.remove(type);
+            byDestination.remove(type);
+            byMapper.remove(type);
+            for (var plans : byMapper.values()) {
+                plans.keySet().removeIf(key -> isKeyOf(key, type));
+            }
+
+            for (Reference<Class<?>> reference : owners.get(type)) {
+                Class<?> owner = reference.get();
+                if (owner != null) {
+                    bySource.get(owner).keySet().removeIf(key -> isKeyOf(key, type));
+                    byDestination.get(owner).keySet().removeIf(key -> isKeyOf(key, type));
+                }
+            }
+
+            owners.remove(type);
+        }
+    }
+
+    private static final class PlansPerClass extends ClassValue<ConcurrentMap<Object, PlanEntry>> {
+
+        @Override
+        protected ConcurrentMap<Object, PlanEntry> computeValue(Class<?> type) {
+            return new ConcurrentHashMap<>();
+        }
+    }
+
+    private static final class KindKey {
+
+        private final Class<?> type;
+        private final PlanKind kind;
+
+        KindKey(final Class<?> type, final PlanKind kind) {
+            this.type = type;
+            this.kind = kind;
+        }
+
+        @Override
+        public boolean equals(Object obj) {
+            if (obj instanceof KindKey == false) {
+                return false;
+            }
+
+            var other = (KindKey) obj;
+            return type == other.type && kind.equals(other.kind);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * type.hashCode() + kind.hashCode();
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package org.cleanpojo.ikkon;
+
+public final class PlanCacheStatistics {
+
+    private final long hits;
+    private final long misses;
+    private final long waits;
+    private final long evictions;
+    private final long uncached;
+
+    public PlanCacheStatistics(
+        final long hits,
+        final long misses,
+        final long waits,
+        final long evictions,
+        final long uncached) {
+
+        this.hits = hits;
+        this.misses = misses;
+        this.waits = waits;
+        this.evictions = evictions;
+        this.uncached = uncached;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getWaits() {
+        return waits;
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+
+    public long getUncached() {
+        return uncached;
+    }
+}
@@ -0,0 +1,402 @@
+package org.cleanpojo.ikkon;
+
+import static java.beans.Introspector.decapitalize;
+import static org.cleanpojo.ikkon.ArgumentResolver.isNestedObjectType;
+import static org.cleanpojo.ikkon.BuilderResolver.findBuildMethod;
+import static org.cleanpojo.ikkon.BuilderResolver.findBuilderFactory;
+import static org.cleanpojo.ikkon.BuilderResolver.getFluentPropertyName;
+import static org.cleanpojo.ikkon.ConstructorResolver.findConstructor;
+import static org.cleanpojo.ikkon.FieldAccessors.getInstanceFields;
+import static org.cleanpojo.ikkon.FieldAccessors.isWritable;
+import static org.cleanpojo.ikkon.FieldAccessors.setter;
+import static org.cleanpojo.ikkon.ImmutableTypes.isImmutable;
+import static org.cleanpojo.ikkon.ParameterNameResolver.resolveParameterNames;
+import static org.cleanpojo.ikkon.PropertySetter.isSetter;
+import static org.cleanpojo.ikkon.Shapes.getReadablePropertyName;
+import static org.cleanpojo.ikkon.Shapes.getReadablePropertyNames;
+import static org.cleanpojo.ikkon.Shapes.isSameShape;
+import static org.cleanpojo.ikkon.Types.rawType;
+import static org.cleanpojo.ikkon.Types.resolve;
+import static org.cleanpojo.ikkon.Types.resolveTypeArgument;
+import static org.cleanpojo.ikkon.Types.typeArgument;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+final class PlanCompiler {
+
+    private final MapperOptions options;
+    private final GetterSelector getterSelector;
+    private final GetterSelector accessorSelector;
+
+    public PlanCompiler(final MapperOptions options) {
+        this.options = options;
+        this.getterSelector = new CompositeGetterSelector(
+            new MapGetterSelector(this),
+            isFieldAccess() ? new FieldGetterSelector() : new SimpleGetterSelector(),
+            new FlatteningGetterSelector(this),
+            new UnflatteningGetterSelector(this)
+        );
+        this.accessorSelector = isFieldAccess()
+            ? new FieldGetterSelector()
+            : new SimpleGetterSelector();
+    }
+
+    public boolean isFieldAccess() {
+        return options.isFieldAccess();
+    }
+
+    public Getter selectGetter(Class<?> sourceType, PropertyHint property) {
+        return getterSelector.select(sourceType, property);
+    }
+
+    public MappingPlan compile(Class<?> sourceType, Class<?> destinationType, FieldMask mask) {
+        String pathToSource = "";
+        return compile(sourceType, destinationType, pathToSource, mask);
+    }
+
+    public MappingPlan compile(
+            Class<?> sourceType,
+            Type destinationGenericType,
+            String pathToSource,
+            FieldMask mask) {
+
+        Class<?> destinationType = rawType(destinationGenericType);
+        boolean clone = pathToSource.isEmpty()
+            && destinationType.isInterface() == false
+            && isSameShape(sourceType, destinationType, isFieldAccess());
+        var context = new Context(
+            sourceType,
+            destinationType,
+            destinationGenericType,
+            pathToSource,
+            mask,
+            clone);
+        boolean mapSource = Map.class.isAssignableFrom(sourceType) && clone == false;
+        if (destinationType.equals(Map.class)) {
+            return new MappingPlan(destinationType, compileSchemaMap(context), mapSource);
+        }
+
+        if (destinationType.isInterface()) {
+            return new MappingPlan(destinationType, compileLazyProxy(context), mapSource);
+        }
+
+        Method builderFactory = findBuilderFactory(destinationType);
+        if (builderFactory != null && destinationType.getConstructors().length == 0) {
+            return new MappingPlan(destinationType, compileBuilder(context, builderFactory), mapSource);
+        }
+
+        Constructor<?> constructor = findConstructor(destinationType);
+        return new MappingPlan(
+            destinationType,
+            constructor,
+            constructor == null ? new PropertyBinding[0] : bindArguments(context, constructor),
+            bindProperties(context),
+            mapSource);
+    }
+
+    private PropertyBinding[] bindArguments(Context context, Constructor<?> constructor) {
+        String[] parameterNames = resolveParameterNames(constructor);
+        Type[] parameterTypes = getGenericParameterTypes(constructor);
+        var bindings = new PropertyBinding[parameterTypes.length];
+        for (int i = 0; i < bindings.length; i++) {
+            String name = parameterNames[i];
+            PropertyHint property = context.hint(parameterTypes[i], name);
+            Getter getter = context.mask.includes(name) ? bindGetter(context, property) : null;
+            bindings[i] = bind(context, name, property, getter, null);
+        }
+
+        return bindings;
+    }
+
+    private static Type[] getGenericParameterTypes(Constructor<?> constructor) {
+        Type[] genericTypes = constructor.getGenericParameterTypes();
+        return genericTypes.length == constructor.getParameterCount()
+            ? genericTypes
+            : constructor.getParameterTypes();
+    }
+
+    private PropertyBinding[] bindProperties(Context context) {
+        return isFieldAccess() ? bindFields(context) : bindSetters(context);
+    }
+
+    private PropertyBinding[] bindSetters(Context context) {
+        var bindings = new ArrayList<PropertyBinding>();
+        for (Method method : context.destinationType.getMethods()) {
+            if (isSetter(method) && context.mask.includes(method.getName().substring(3))) {
+                Method setter = method;
+                String name = setter.getName().substring(3);
+                PropertyHint property = context.hint(setter.getGenericParameterTypes()[0], name);
+                Getter getter = bindGetter(context, property);
+                if (getter != null) {
+                    bindings.add(bind(context, decapitalize(name), property, getter, Setter.fromMethod(setter)));
+                }
+            }
+        }
+
+        return bindings.toArray(new PropertyBinding[0]);
+    }
+
+    private PropertyBinding[] bindFields(Context context) {
+        var bindings = new ArrayList<PropertyBinding>();
+        for (Field field : getInstanceFields(context.destinationType)) {
+            if (isWritable(field) && context.mask.includes(field.getName())) {
+                String name = field.getName();
+                PropertyHint property = context.hint(field.getGenericType(), name);
+                Getter getter = bindGetter(context, property);
+                if (getter != null) {
+                    bindings.add(bind(context, name, property, getter, setter(field)));
+                }
+            }
+        }
+
+        return bindings.toArray(new PropertyBinding[0]);
+    }
+
+    private BuilderFactory compileBuilder(Context context, Method builderFactory) {
+        Class<?> builderType = builderFactory.getReturnType();
+        var names = new HashSet<String>();
+        var fluentSetters = new ArrayList<Method>();
+        var bindings = new ArrayList<PropertyBinding>();
+        for (Method method : builderType.getMethods()) {
+            String name = getFluentPropertyName(method, builderType);
+            if (name != null && names.add(name.toLowerCase()) && context.mask.includes(name)) {
+                PropertyHint property = context.hint(method.getGenericParameterTypes()[0], name);
+                Getter getter = bindGetter(context, property);
+                if (getter != null) {
+                    fluentSetters.add(method);
+                    bindings.add(bind(context, decapitalize(name), property, getter, null));
+                }
+            }
+        }
+
+        return new BuilderFactory(
+            builderFactory,
+            fluentSetters.toArray(new Method[0]),
+            findBuildMethod(builderType, context.destinationType),
+            bindings.toArray(new PropertyBinding[0]));
+    }
+
+    private SchemaMapFactory compileSchemaMap(Context context) {
+        var keys = new ArrayList<String>();
+        var bindings = new ArrayList<PropertyBinding>();
+        for (String name : getReadablePropertyNames(context.sourceType, isFieldAccess())) {
+            if (context.mask.includes(name)) {
+                PropertyHint property = context.hint(Object.class, name);
+                Getter getter = bindGetter(context, property);
+                if (getter != null) {
+                    keys.add(name);
+                    bindings.add(bind(context, name, property, getter, null));
+                }
+            }
+        }
+
+        return new SchemaMapFactory(
+            new MapSchema(keys.toArray(new String[0])),
+            bindings.toArray(new PropertyBinding[0]));
+    }
+
+    private LazyProxyFactory compileLazyProxy(Context context) {
+        var slots = new HashMap<Method, Integer>();
+        var bindings = new ArrayList<PropertyBinding>();
+        for (Method method : context.destinationType.getMethods()) {
+            String name = getReadablePropertyName(method);
+            if (name != null && method.isDefault() == false) {
+                PropertyHint property = context.hint(method.getGenericReturnType(), name);
+                Getter getter = context.mask.includes(name) ? bindGetter(context, property) : null;
+                slots.put(method, bindings.size());
+                bindings.add(bind(context, decapitalize(name), property, getter, null));
+            }
+        }
+
+        return new LazyProxyFactory(
+            context.destinationType,
+            Map.copyOf(slots),
+            bindings.toArray(new PropertyBinding[0]));
+    }
+
+    private PropertyBinding bind(
+            Context context,
+            String name,
+            PropertyHint property,
+            Getter getter,
+            Setter setter) {
+
+        Class<?> type = property.getType();
+        Getter targetGetter = accessorSelector.select(context.destinationType, new PropertyHint(type, name));
+
+        Type sourceType = getter == null ? null : resolve(getter.getGenericType(), context.sourceType);
+        Getter valueGetter = getter;
+        if (getter != null && isOptional(rawType(sourceType)) && isOptional(type) == false) {
+            sourceType = typeArgument(sourceType, 0);
+            valueGetter = unwrapOptional(getter, sourceType);
+        }
+
+        return bindValue(
+            context,
+            name,
+            property.getGenericType(),
+            property.getMask(),
+            sourceType,
+            valueGetter,
+            setter,
+            targetGetter);
+    }
+
+    private PropertyBinding bindValue(
+            Context context,
+            String name,
+            Type targetType,
+            FieldMask mask,
+            Type sourceType,
+            Getter getter,
+            Setter setter,
+            Getter targetGetter) {
+
+        Class<?> type = rawType(targetType);
+        Function<Object, Object> converter = sourceType == null
+            ? null
+            : findConverter(rawType(sourceType), type);
+        boolean shared = context.clone
+            && (isImmutable(type) || options.isDeepClone() == false);
+        InlinePlanCache plans = isNestedObjectType(type) && shared == false && converter == null
+            ? new InlinePlanCache(
+                targetType,
+                mask,
+                context.sourceType,
+                context.destinationType)
+            : null;
+        PropertyBinding element = isContainer(type) && converter == null
+            ? bindValue(
+                context,
+                name,
+                typeArgument(targetType, type.equals(Map.class) ? 1 : 0),
+                mask,
+                getElementType(sourceType, type),
+                null,
+                null,
+                null)
+            : null;
+
+        return new PropertyBinding(
+            name,
+            type,
+            getter,
+            setter,
+            targetGetter,
+            plans,
+            shared,
+            converter,
+            element);
+    }
+
+    private static boolean isOptional(Class<?> type) {
+        return type.equals(Optional.class);
+    }
+
+    private static boolean isContainer(Class<?> type) {
+        return isOptional(type)
+            || type.equals(Iterable.class)
+            || type.equals(Collection.class)
+            || type.equals(List.class)
+            || type.equals(Map.class);
+    }
+
+    private static Type getElementType(Type sourceType, Class<?> containerType) {
+        Class<?> sourceClass = sourceType == null ? Object.class : rawType(sourceType);
+        if (isOptional(containerType)) {
+            return isOptional(sourceClass) ? typeArgument(sourceType, 0) : sourceType;
+        } else if (containerType.equals(Map.class)) {
+            return Map.class.isAssignableFrom(sourceClass)
+                ? resolveTypeArgument(sourceType, Map.class, 1)
+                : null;
+        } else {
+            return Iterable.class.isAssignableFrom(sourceClass)
+                ? resolveTypeArgument(sourceType, Iterable.class, 0)
+                : null;
+        }
+    }
+
+    private static Getter unwrapOptional(Getter getter, Type elementType) {
+        return Getter.typed(
+            elementType,
+            getter.isExpensive(),
+            (mapper, source) -> {
+                Optional<?> value = (Optional<?>) getter.get(mapper, source);
+                return value == null ? null : value.orElse(null);
+            });
+    }
+
+    Function<Object, Object> findConverter(Class<?> sourceType, Class<?> targetType) {
+        Function<Object, Object> converter = options.findConverter(sourceType, targetType);
+        if (converter == null) {
+            converter = EnumConverters.find(sourceType, targetType);
+        }
+
+        if (converter == null) {
+            converter = NumericConverters.find(sourceType, targetType, options.isCheckedNarrowing());
+        }
+
+        return converter;
+    }
+
+    private Getter bindGetter(Context context, PropertyHint property) {
+        Getter getter = context.clone
+            ? selectCloneGetter(context.sourceType, property)
+            : selectGetter(context.sourceType, property);
+        return getter != null && options.isExpensiveSourceType(context.sourceType)
+            ? Getter.expensive(getter)
+            : getter;
+    }
+
+    private Getter selectCloneGetter(Class<?> sourceType, PropertyHint property) {
+        Getter getter = accessorSelector.select(sourceType, property);
+        return getter == null ? selectGetter(sourceType, property) : getter;
+    }
+
+    private static String capitalize(String name) {
+        return name.isEmpty() ? name : Character.toUpperCase(name.charAt(0)) + name.substring(1);
+    }
+
+    private static final class Context {
+
+        private final Class<?> sourceType;
+        private final Class<?> destinationType;
+        private final Type destinationGenericType;
+        private final String pathToSource;
+        private final FieldMask mask;
+        private final boolean clone;
+
+        Context(
+            final Class<?> sourceType,
+            final Class<?> destinationType,
+            final Type destinationGenericType,
+            final String pathToSource,
+            final FieldMask mask,
+            final boolean clone) {
+
+            this.sourceType = sourceType;
+            this.destinationType = destinationType;
+            this.destinationGenericType = destinationGenericType;
+            this.pathToSource = pathToSource;
+            this.mask = mask;
+            this.clone = clone;
+        }
+
+        PropertyHint hint(Type type, String name) {
+            Type resolvedType = resolve(type, destinationGenericType);
+            String path = pathToSource.isEmpty() ? name : pathToSource + capitalize(name);
+            return new PropertyHint(rawType(resolvedType), resolvedType, path, mask.get(name));
+        }
+    }
+}
@@ -0,0 +1,12 @@
+package org.cleanpojo.ikkon;
+
+import java.util.List;
+
+interface PlanKind {
+
+    Object compile(Class<?> sourceType, Class<?> destinationType);
+
+    default List<Class<?>> getDependencies() {
+        return List.of();
+    }
+}
@@ -0,0 +1,27 @@
+package org.cleanpojo.ikkon;
+
+final class ProjectionKind implements PlanKind {
+
+    private final PlanCompiler compiler;
+    private final FieldMask mask;
+
+    public ProjectionKind(final PlanCompiler compiler, final FieldMask mask) {
+        this.compiler = compiler;
+        this.mask = mask;
+    }
+
+    @Override
+    public Object compile(Class<?> sourceType, Class<?> destinationType) {
+        return compiler.compile(sourceType, destinationType, mask);
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        return obj instanceof ProjectionKind && mask.equals(((ProjectionKind) obj).mask);
+    }
+
+    @Override
+    public int hashCode() {
+        return mask.hashCode();
+    }
+}
@@ -0,0 +1,74 @@
+package org.cleanpojo.ikkon;
+
+import java.util.function.Function;
+
+final class PropertyBinding {
+
+    private final String name;
+    private final Class<?> type;
+    private final Getter getter;
+    private final Setter setter;
+    private final Getter targetGetter;
+    private final InlinePlanCache plans;
+    private final boolean shared;
+    private final Function<Object, Object> converter;
+    private final PropertyBinding element;
+
+    public PropertyBinding(
+        final String name,
+        final Class<?> type,
+        final Getter getter,
+        final Setter setter,
+        final Getter targetGetter,
+        final InlinePlanCache plans,
+        final boolean shared,
+        final Function<Object, Object> converter,
+        final PropertyBinding element) {
+
+        this.name = name;
+        this.type = type;
+        this.getter = getter;
+        this.setter = setter;
+        this.targetGetter = targetGetter;
+        this.plans = plans;
+        this.shared = shared;
+        this.converter = converter;
+        this.element = element;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+
+    public Getter getGetter() {
+        return getter;
+    }
+
+    public Setter getSetter() {
+        return setter;
+    }
+
+    public Getter getTargetGetter() {
+        return targetGetter;
+    }
+
+    public InlinePlanCache getPlans() {
+        return plans;
+    }
+
+    public boolean isShared() {
+        return shared;
+    }
+
+    public Function<Object, Object> getConverter() {
+        return converter;
+    }
+
+    public PropertyBinding getElement() {
+        return element;
+    }
+}
@@ -1,25 +1,51 @@
 package org.cleanpojo.ikkon;
 
 import java.lang.reflect.Method;
+import java.lang.reflect.Type;
 
 final class PropertyHint {
 
     private final Class<?> type;
+    private final Type genericType;
     private final String name;
+    private final FieldMask mask;
 
     public PropertyHint(final Class<?> type, final String name) {
+        this(type, name, FieldMask.all());
+    }
+
+    public PropertyHint(final Class<?> type, final String name, final FieldMask mask) {
+        this(type, type, name, mask);
+    }
+
+    public PropertyHint(
+        final Class<?> type,
+        final Type genericType,
+        final String name,
+        final FieldMask mask) {
+
         this.type = type;
+        this.genericType = genericType;
         this.name = name;
+        this.mask = mask;
     }
 
     public Class<?> getType() {
         return type;
     }
 
+    public Type getGenericType() {
+        return genericType;
+    }
+
     public String getName() {
         return name;
     }
 
+    public FieldMask getMask() {
+        return mask;
+    }
+
     public static PropertyHint fromSetter(final Method setter) {
         return new PropertyHint(
             setter.getParameterTypes()[0],
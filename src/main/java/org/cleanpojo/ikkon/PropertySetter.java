@@ -1,50 +1,96 @@
 package org.cleanpojo.ikkon;
 
-import static org.cleanpojo.ikkon.ArgumentResolver.resolveArgument;
+import static org.cleanpojo.ikkon.ArgumentResolver.refineValue;
+import static org.cleanpojo.ikkon.ArgumentResolver.refineValues;
+import static org.cleanpojo.ikkon.GetterEvaluator.evaluate;
+import static org.cleanpojo.ikkon.ValueEquivalence.matches;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
 
 interface PropertySetter {
 
-    static void setProperties(Object target, Object source)
+    static void setProperties(
+            Mapper mapper,
+            Object target,
+            PropertyBinding[] properties,
+            Object source)
             throws ReflectiveOperationException {
 
-        String pathToSource = "";
-        setProperties(target, pathToSource, source);
+        Object[] values = evaluate(mapper, source, properties);
+        Object[] arguments = refineValues(mapper, properties, values);
+        for (int i = 0; i < arguments.length; i++) {
+            if (values[i] != Getter.ABSENT) {
+                properties[i].getSetter().set(target, arguments[i]);
+            }
+        }
     }
 
-    static void setProperties(Object target, String pathToSource, Object source)
+    static List<String> patchProperties(
+            Mapper mapper,
+            Object target,
+            PropertyBinding[] properties,
+            Object source,
+            boolean skipNulls)
             throws ReflectiveOperationException {
 
-        for (Method method : target.getClass().getMethods()) {
-            if (isSetter(method)) {
-                Method setter = method;
-                setProperty(target, setter, pathToSource, source);
+        Object[] values = evaluate(mapper, source, properties);
+        var changedProperties = new ArrayList<String>();
+        for (int i = 0; i < values.length; i++) {
+            PropertyBinding property = properties[i];
+            if (values[i] == Getter.ABSENT || (values[i] == null && skipNulls)) {
+                continue;
+            }
+
+            Object current = getCurrentValue(mapper, property, target);
+            MappingPlan nestedPlan = getNestedPlan(mapper, property, current, values[i]);
+            if (nestedPlan != null) {
+                for (String nestedProperty : nestedPlan.patch(mapper, values[i], current, skipNulls)) {
+                    changedProperties.add(property.getName() + "." + nestedProperty);
+                }
+
+                continue;
+            }
+
+            if (property.getTargetGetter() == null || matches(mapper, property, current, values[i]) == false) {
+                property.getSetter().set(target, refineValue(mapper, property, values[i]));
+                changedProperties.add(property.getName());
             }
         }
-    }
 
-    private static boolean isSetter(Method method) {
-        return method.getName().startsWith("set")
-            && method.getReturnType().equals(void.class)
-            && method.getParameterCount() == 1;
+        return changedProperties;
     }
 
-    static void setProperty(
-            Object target,
-            Method setter,
-            String pathToSource,
-            Object source)
+    private static Object getCurrentValue(Mapper mapper, PropertyBinding property, Object target)
             throws ReflectiveOperationException {
 
-        var property = new PropertyHint(
-            setter.getParameterTypes()[0],
-            pathToSource + setter.getName().substring(3));
+        Getter targetGetter = property.getTargetGetter();
+        return targetGetter == null ? null : targetGetter.get(mapper, target);
+    }
+
+    private static MappingPlan getNestedPlan(
+            Mapper mapper,
+            PropertyBinding property,
+            Object current,
+            Object value) {
 
-        Getter getter = GetterSelector.instance.select(source, property);
+        if (property.getPlans() == null
+            || property.getConverter() != null
+            || property.isShared()
+            || current == null
+            || value == null) {
 
-        if (getter != null) {
-            setter.invoke(target, resolveArgument(property.getType(), getter));
+            return null;
         }
+
+        MappingPlan plan = property.getPlans().get(mapper, value.getClass());
+        return plan.isPatchable(current) ? plan : null;
+    }
+
+    static boolean isSetter(Method method) {
+        return method.getName().startsWith("set")
+            && method.getReturnType().equals(void.class)
+            && method.getParameterCount() == 1;
     }
 }
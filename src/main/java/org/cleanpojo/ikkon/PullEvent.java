@@ -0,0 +1,11 @@
+package org.cleanpojo.ikkon;
+
+public enum PullEvent {
+    START_OBJECT,
+    FIELD_NAME,
+    VALUE,
+    END_OBJECT,
+    START_ARRAY,
+    END_ARRAY,
+    END_OF_INPUT
+}
@@ -0,0 +1,125 @@
+package org.cleanpojo.ikkon;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+interface Records {
+
+    Method IS_RECORD = findMethod(Class.class, "isRecord");
+    Method GET_RECORD_COMPONENTS = findMethod(Class.class, "getRecordComponents");
+    Method GET_ACCESSOR = findMethod(findClass("java.lang.reflect.RecordComponent"), "getAccessor");
+
+    ClassValue<RecordType> RECORD_TYPES = new ClassValue<>() {
+
+        @Override
+        protected RecordType computeValue(Class<?> type) {
+            return IS_RECORD != null && (boolean) invoke(IS_RECORD, type) ? new RecordType(type) : null;
+        }
+    };
+
+    static boolean isRecord(Class<?> type) {
+        return RECORD_TYPES.get(type) != null;
+    }
+
+    static Method[] getAccessors(Class<?> type) {
+        RecordType recordType = RECORD_TYPES.get(type);
+        return recordType == null ? new Method[0] : recordType.accessors.clone();
+    }
+
+    static Constructor<?> getCanonicalConstructor(Class<?> type) {
+        RecordType recordType = RECORD_TYPES.get(type);
+        if (recordType == null) {
+            String message = "The type '" + type.getName() + "' is not a record.";
+            throw new IllegalArgumentException(message);
+        }
+
+        return recordType.canonicalConstructor;
+    }
+
+    static boolean isCanonicalConstructor(Constructor<?> constructor) {
+        RecordType recordType = RECORD_TYPES.get(constructor.getDeclaringClass());
+        return recordType != null && constructor.equals(recordType.canonicalConstructor);
+    }
+
+    static Object newInstance(Constructor<?> constructor, Object[] arguments) throws ReflectiveOperationException {
+        RecordType recordType = RECORD_TYPES.get(constructor.getDeclaringClass());
+        if (recordType == null
+            || recordType.constructorHandle == null
+            || constructor.equals(recordType.canonicalConstructor) == false) {
+            return constructor.newInstance(arguments);
+        }
+
+        try {
+            return recordType.constructorHandle.invokeExact(arguments);
+        } catch (Throwable throwable) {
+            throw new InvocationTargetException(throwable);
+        }
+    }
+
+    private static Object invoke(Method method, Object target) {
+        try {
+            return method.invoke(target);
+        } catch (ReflectiveOperationException exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+
+    private static Class<?> findClass(String name) {
+        try {
+            return Class.forName(name);
+        } catch (ClassNotFoundException exception) {
+            return null;
+        }
+    }
+
+    private static Method findMethod(Class<?> type, String name) {
+        try {
+            return type == null ? null : type.getMethod(name);
+        } catch (NoSuchMethodException exception) {
+            return null;
+        }
+    }
+
+    final class RecordType {
+
+        private final Method[] accessors;
+        private final Constructor<?> canonicalConstructor;
+        private final MethodHandle constructorHandle;
+
+        RecordType(final Class<?> type) {
+            Object components = invoke(GET_RECORD_COMPONENTS, type);
+            this.accessors = new Method[Array.getLength(components)];
+            for (int i = 0; i < accessors.length; i++) {
+                accessors[i] = (Method) invoke(GET_ACCESSOR, Array.get(components, i));
+            }
+
+            Class<?>[] componentTypes = Arrays.stream(accessors)
+                .map(Method::getReturnType)
+                .toArray(Class<?>[]::new);
+            try {
+                this.canonicalConstructor = type.getDeclaredConstructor(componentTypes);
+            } catch (NoSuchMethodException exception) {
+                throw new RuntimeException(exception);
+            }
+
+            this.constructorHandle = spreadConstructor(canonicalConstructor);
+        }
+
+        private static MethodHandle spreadConstructor(Constructor<?> constructor) {
+            try {
+                return MethodHandles.publicLookup()
+                    .unreflectConstructor(constructor)
+                    .asSpreader(Object[].class, constructor.getParameterCount())
+                    .asType(MethodType.methodType(Object.class, Object[].class));
+            } catch (IllegalAccessException exception) {
+                return null;
+            }
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package org.cleanpojo.ikkon;
+
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.util.Arrays;
+import java.util.Objects;
+
+final class ResolvedParameterizedType implements ParameterizedType {
+
+    private final Class<?> rawType;
+    private final Type ownerType;
+    private final Type[] typeArguments;
+
+    public ResolvedParameterizedType(
+        final Class<?> rawType,
+        final Type ownerType,
+        final Type[] typeArguments) {
+
+        this.rawType = rawType;
+        this.ownerType = ownerType;
+        this.typeArguments = typeArguments;
+    }
+
+    @Override
+    public Type[] getActualTypeArguments() {
+        return typeArguments.clone();
+    }
+
+    @Override
+    public Type getRawType() {
+        return rawType;
+    }
+
+    @Override
+    public Type getOwnerType() {
+        return ownerType;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+        if (obj instanceof ParameterizedType == false) {
+            return false;
+        }
+
+        var other = (ParameterizedType) obj;
+        return rawType.equals(other.getRawType())
+            && Objects.equals(ownerType, other.getOwnerType())
+            && Arrays.equals(typeArguments, other.getActualTypeArguments());
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(typeArguments) ^ Objects.hashCode(ownerType) ^ rawType.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return rawType.getName() + Arrays.toString(typeArguments).replace('[', '<').replace(']', '>');
+    }
+}
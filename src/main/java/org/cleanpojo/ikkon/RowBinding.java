@@ -0,0 +1,47 @@
+package org.cleanpojo.ikkon;
+
+final class RowBinding implements ColumnReader {
+
+    private final DestinationSlots slots;
+    private final ColumnReader[] readers;
+    private final int[] nullableColumns;
+
+    public RowBinding(
+        final DestinationSlots slots,
+        final ColumnReader[] readers,
+        final int[] nullableColumns) {
+
+        this.slots = slots;
+        this.readers = readers;
+        this.nullableColumns = nullableColumns;
+    }
+
+    @Override
+    public Object read(RowSource row) throws ReflectiveOperationException {
+        if (nullableColumns != null && isEmpty(row)) {
+            return null;
+        }
+
+        var values = new Object[readers.length];
+        var present = new boolean[readers.length];
+        for (int i = 0; i < readers.length; i++) {
+            ColumnReader reader = readers[i];
+            if (reader != null) {
+                values[i] = reader.read(row);
+                present[i] = true;
+            }
+        }
+
+        return slots.createInstance(values, present);
+    }
+
+    private boolean isEmpty(RowSource row) {
+        for (int column : nullableColumns) {
+            if (row.getObject(column) != null) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
@@ -0,0 +1,95 @@
+package org.cleanpojo.ikkon;
+
+import static org.cleanpojo.ikkon.ArgumentResolver.isNestedObjectType;
+import static org.cleanpojo.ikkon.MapKeyPath.normalize;
+import static org.cleanpojo.ikkon.Types.rawType;
+import static org.cleanpojo.ikkon.Types.typeArgument;
+
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+final class RowPlanCompiler {
+
+    private final Mapper mapper;
+    private final PlanCompiler compiler;
+
+    public RowPlanCompiler(final Mapper mapper, final PlanCompiler compiler) {
+        this.mapper = mapper;
+        this.compiler = compiler;
+    }
+
+    public RowBinding bind(Type destinationType, List<String> columnNames) {
+        var columns = new HashMap<String, Integer>();
+        for (int i = 0; i < columnNames.size(); i++) {
+            columns.putIfAbsent(normalize(columnNames.get(i)), i);
+        }
+
+        String prefix = "";
+        boolean nullable = false;
+        return bind(destinationType, prefix, columns, nullable, new ArrayList<>());
+    }
+
+    private RowBinding bind(
+            Type destinationType,
+            String prefix,
+            Map<String, Integer> columns,
+            boolean nullable,
+            List<Integer> boundColumns) {
+
+        DestinationSlots slots = mapper.getSlots(destinationType);
+        var readers = new ColumnReader[slots.size()];
+        var ownColumns = new ArrayList<Integer>();
+        for (int i = 0; i < readers.length; i++) {
+            String path = prefix + normalize(slots.getName(i));
+            Integer column = columns.get(path);
+            if (column != null) {
+                readers[i] = columnReader(column, slots.getGenericType(i));
+                ownColumns.add(column);
+            } else if (isNestedObjectType(slots.getType(i)) && hasColumnWithPrefix(columns, path)) {
+                boolean nestedNullable = true;
+                readers[i] = bind(slots.getGenericType(i), path, columns, nestedNullable, ownColumns);
+            }
+        }
+
+        boundColumns.addAll(ownColumns);
+        return new RowBinding(
+            slots,
+            readers,
+            nullable ? ownColumns.stream().mapToInt(Integer::intValue).toArray() : null);
+    }
+
+    private static boolean hasColumnWithPrefix(Map<String, Integer> columns, String prefix) {
+        for (String column : columns.keySet()) {
+            if (column.startsWith(prefix) && column.length() > prefix.length()) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private ColumnReader columnReader(int column, Type type) {
+        Class<?> rawType = rawType(type);
+        if (rawType.equals(int.class)) {
+            return row -> row.getInt(column);
+        } else if (rawType.equals(long.class)) {
+            return row -> row.getLong(column);
+        } else if (rawType.equals(double.class)) {
+            return row -> row.getDouble(column);
+        } else if (rawType.equals(boolean.class)) {
+            return row -> row.getBoolean(column);
+        } else if (rawType.equals(String.class)) {
+            return row -> row.getString(column);
+        } else if (rawType.equals(Optional.class)) {
+            var converter = new RuntimeConverter(compiler, rawType(typeArgument(type, 0)));
+            return row -> Optional.ofNullable(converter.convert(row.getObject(column)));
+        } else {
+            var converter = new RuntimeConverter(compiler, rawType);
+            return row -> converter.convert(row.getObject(column));
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package org.cleanpojo.ikkon;
+
+import java.util.List;
+
+public interface RowSource {
+
+    List<String> getColumnNames();
+
+    boolean next();
+
+    Object getObject(int column);
+
+    default String getString(int column) {
+        Object value = getObject(column);
+        return value == null ? null : value.toString();
+    }
+
+    default long getLong(int column) {
+        Object value = getObject(column);
+        return value == null ? 0
+             : value instanceof Number ? NumericConverters.toLongExact((Number) value)
+             : Long.parseLong(value.toString());
+    }
+
+    default int getInt(int column) {
+        return Math.toIntExact(getLong(column));
+    }
+
+    default double getDouble(int column) {
+        Object value = getObject(column);
+        return value == null ? 0
+             : value instanceof Number ? ((Number) value).doubleValue()
+             : Double.parseDouble(value.toString());
+    }
+
+    default boolean getBoolean(int column) {
+        Object value = getObject(column);
+        return value == null ? false
+             : value instanceof Boolean ? (Boolean) value
+             : Boolean.parseBoolean(value.toString());
+    }
+}
@@ -0,0 +1,53 @@
+package org.cleanpojo.ikkon;
+
+import java.lang.invoke.MethodType;
+import java.util.function.Function;
+
+final class RuntimeConverter {
+
+    private final PlanCompiler compiler;
+    private final Class<?> type;
+    private final Class<?> boxedType;
+    private volatile Conversion conversion;
+
+    public RuntimeConverter(final PlanCompiler compiler, final Class<?> type) {
+        this.compiler = compiler;
+        this.type = type;
+        this.boxedType = MethodType.methodType(type).wrap().returnType();
+    }
+
+    public Object convert(Object value) {
+        if (value == null || boxedType.isInstance(value)) {
+            return value;
+        }
+
+        Conversion conversion = this.conversion;
+        if (conversion == null || conversion.sourceType != value.getClass()) {
+            conversion = new Conversion(value.getClass(), findConverter(value.getClass()));
+            this.conversion = conversion;
+        }
+
+        return conversion.converter.apply(value);
+    }
+
+    private Function<Object, Object> findConverter(Class<?> sourceType) {
+        Function<Object, Object> converter = compiler.findConverter(sourceType, type);
+        if (converter == null) {
+            String message = "Cannot convert '" + sourceType.getName() + "' to '" + type.getName() + "'.";
+            throw new IllegalArgumentException(message);
+        }
+
+        return converter;
+    }
+
+    private static final class Conversion {
+
+        private final Class<?> sourceType;
+        private final Function<Object, Object> converter;
+
+        Conversion(final Class<?> sourceType, final Function<Object, Object> converter) {
+            this.sourceType = sourceType;
+            this.converter = converter;
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package org.cleanpojo.ikkon;
+
+import static org.cleanpojo.ikkon.ValueReader.unexpected;
+
+final class ScalarReader implements ValueReader {
+
+    private final RuntimeConverter converter;
+
+    public ScalarReader(final RuntimeConverter converter) {
+        this.converter = converter;
+    }
+
+    @Override
+    public Object read(Mapper mapper, EventReader reader, PullEvent event) {
+        if (event != PullEvent.VALUE) {
+            throw unexpected(PullEvent.VALUE, event);
+        }
+
+        return converter.convert(reader.getValue());
+    }
+}
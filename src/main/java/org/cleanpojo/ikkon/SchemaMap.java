@@ -0,0 +1,73 @@
+package org.cleanpojo.ikkon;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+final class SchemaMap extends AbstractMap<String, Object> {
+
+    private final MapSchema schema;
+    private final Object[] values;
+
+    public SchemaMap(final MapSchema schema, final Object[] values) {
+        this.schema = schema;
+        this.values = values;
+    }
+
+    @Override
+    public int size() {
+        return schema.size();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return schema.slotOf(key) >= 0;
+    }
+
+    @Override
+    public Object get(Object key) {
+        int slot = schema.slotOf(key);
+        return slot < 0 ? null : values[slot];
+    }
+
+    @Override
+    public Set<String> keySet() {
+        return schema.keySet();
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        return new AbstractSet<>() {
+
+            @Override
+            public int size() {
+                return values.length;
+            }
+
+            @Override
+            public Iterator<Entry<String, Object>> iterator() {
+                return new Iterator<>() {
+
+                    private int slot;
+
+                    @Override
+                    public boolean hasNext() {
+                        return slot < values.length;
+                    }
+
+                    @Override
+                    public Entry<String, Object> next() {
+                        if (hasNext() == false) {
+                            throw new NoSuchElementException();
+                        }
+
+                        int current = slot++;
+                        return new SimpleImmutableEntry<>(schema.keyAt(current), values[current]);
+                    }
+                };
+            }
+        };
+    }
+}
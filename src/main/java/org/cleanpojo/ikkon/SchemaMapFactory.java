@@ -0,0 +1,19 @@
+package org.cleanpojo.ikkon;
+
+import static org.cleanpojo.ikkon.ArgumentResolver.resolveArguments;
+
+final class SchemaMapFactory implements InstanceFactory {
+
+    private final MapSchema schema;
+    private final PropertyBinding[] properties;
+
+    public SchemaMapFactory(final MapSchema schema, final PropertyBinding[] properties) {
+        this.schema = schema;
+        this.properties = properties;
+    }
+
+    @Override
+    public Object create(Mapper mapper, Object source) throws ReflectiveOperationException {
+        return new SchemaMap(schema, resolveArguments(mapper, properties, source));
+    }
+}
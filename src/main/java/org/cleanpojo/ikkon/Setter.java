@@ -0,0 +1,12 @@
+package org.cleanpojo.ikkon;
+
+import java.lang.reflect.Method;
+
+interface Setter {
+
+    void set(Object target, Object value) throws ReflectiveOperationException;
+
+    static Setter fromMethod(Method method) {
+        return (target, value) -> method.invoke(target, value);
+    }
+}
@@ -0,0 +1,92 @@
+package org.cleanpojo.ikkon;
+
+import static java.beans.Introspector.decapitalize;
+import static org.cleanpojo.ikkon.FieldAccessors.getInstanceFields;
+import static org.cleanpojo.ikkon.Records.getAccessors;
+import static org.cleanpojo.ikkon.Records.isRecord;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+interface Shapes {
+
+    static boolean isSameShape(Class<?> sourceType, Class<?> destinationType, boolean fieldAccess) {
+        return sourceType.equals(destinationType)
+            || getReadableProperties(sourceType, fieldAccess).equals(
+                getReadableProperties(destinationType, fieldAccess));
+    }
+
+    static Map<String, Type> getReadableProperties(Class<?> type, boolean fieldAccess) {
+        var properties = new HashMap<String, Type>();
+        if (fieldAccess) {
+            for (Field field : getInstanceFields(type)) {
+                properties.put(field.getName().toLowerCase(), field.getGenericType());
+            }
+
+            return properties;
+        }
+
+        for (Method accessor : getAccessors(type)) {
+            properties.put(accessor.getName().toLowerCase(), accessor.getGenericReturnType());
+        }
+
+        for (Method method : type.getMethods()) {
+            String name = getReadablePropertyName(method);
+            if (name != null) {
+                properties.put(name.toLowerCase(), method.getGenericReturnType());
+            }
+        }
+
+        return properties;
+    }
+
+    static List<String> getReadablePropertyNames(Class<?> type, boolean fieldAccess) {
+        var names = new ArrayList<String>();
+        if (fieldAccess) {
+            for (Field field : getInstanceFields(type)) {
+                names.add(field.getName());
+            }
+        } else if (isRecord(type)) {
+            for (Method accessor : getAccessors(type)) {
+                names.add(accessor.getName());
+            }
+        } else {
+            var sortedNames = new TreeSet<String>();
+            for (Method method : type.getMethods()) {
+                String name = getReadablePropertyName(method);
+                if (name != null) {
+                    sortedNames.add(decapitalize(name));
+                }
+            }
+
+            names.addAll(sortedNames);
+        }
+
+        return names;
+    }
+
+    static String getReadablePropertyName(Method method) {
+        if (method.getParameterCount() > 0
+            || method.getReturnType().equals(void.class)
+            || method.getDeclaringClass().equals(Object.class)) {
+            return null;
+        }
+
+        String name = method.getName();
+        if (name.startsWith("get") && name.length() > 3) {
+            return name.substring(3);
+        }
+
+        if (name.startsWith("is") && name.length() > 2 && method.getReturnType().equals(boolean.class)) {
+            return name.substring(2);
+        }
+
+        return null;
+    }
+}
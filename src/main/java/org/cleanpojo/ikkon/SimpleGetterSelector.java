@@ -1,20 +1,22 @@
 package org.cleanpojo.ikkon;
 
-import static org.cleanpojo.ikkon.Getter.transpose;
+import static org.cleanpojo.ikkon.Records.getAccessors;
 
 import java.lang.reflect.Method;
 
 final class SimpleGetterSelector implements GetterSelector {
 
     @Override
-    public Getter select(Object source, PropertyHint property) {
-        if (source == null) {
-            return null;
+    public Getter select(Class<?> sourceType, PropertyHint property) {
+        for (Method accessor : getAccessors(sourceType)) {
+            if (accessor.getName().equalsIgnoreCase(property.getName())) {
+                return Getter.fromMethod(accessor);
+            }
         }
 
-        for (Method method : source.getClass().getMethods()) {
+        for (Method method : sourceType.getMethods()) {
             if (isGetter(property.getName(), method)) {
-                return transpose(method, source);
+                return Getter.fromMethod(method);
             }
         }
 
@@ -0,0 +1,294 @@
+package org.cleanpojo.ikkon;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.UncheckedIOException;
+import java.math.BigInteger;
+import java.util.Arrays;
+
+public final class TextEventReader implements EventReader {
+
+    private static final int EOF = -1;
+
+    private final Reader input;
+    private final char[] buffer = new char[4096];
+    private final StringBuilder text = new StringBuilder();
+    private int position;
+    private int limit;
+    private long offset;
+    private boolean[] objectScopes = new boolean[16];
+    private int depth;
+    private boolean hasElements;
+    private boolean expectingName;
+    private String fieldName;
+    private Object value;
+
+    public TextEventReader(final String text) {
+        this(new StringReader(text));
+    }
+
+    public TextEventReader(final Reader input) {
+        this.input = input;
+    }
+
+    @Override
+    public PullEvent next() {
+        fieldName = null;
+        value = null;
+        int c = skipWhitespace();
+        if (depth > 0 && objectScopes[depth - 1]) {
+            if (expectingName) {
+                return nextName(c);
+            }
+
+            expect(':', c);
+            c = skipWhitespace();
+        } else if (depth > 0) {
+            if (c == ']') {
+                read();
+                return endScope(PullEvent.END_ARRAY);
+            }
+
+            if (hasElements) {
+                expect(',', c);
+                c = skipWhitespace();
+            }
+        } else if (c == EOF) {
+            return PullEvent.END_OF_INPUT;
+        }
+
+        return nextValue(c);
+    }
+
+    private PullEvent nextName(int c) {
+        if (c == '}') {
+            read();
+            return endScope(PullEvent.END_OBJECT);
+        }
+
+        if (hasElements) {
+            expect(',', c);
+            c = skipWhitespace();
+        }
+
+        if (c != '"') {
+            throw unexpected(c);
+        }
+
+        read();
+        fieldName = readString();
+        expectingName = false;
+        return PullEvent.FIELD_NAME;
+    }
+
+    private PullEvent nextValue(int c) {
+        if (c == '{') {
+            read();
+            return startScope(true, PullEvent.START_OBJECT);
+        }
+
+        if (c == '[') {
+            read();
+            return startScope(false, PullEvent.START_ARRAY);
+        }
+
+        value = readScalar(c);
+        completeElement();
+        return PullEvent.VALUE;
+    }
+
+    private PullEvent startScope(boolean object, PullEvent event) {
+        if (depth == objectScopes.length) {
+            objectScopes = Arrays.copyOf(objectScopes, depth * 2);
+        }
+
+        objectScopes[depth++] = object;
+        hasElements = false;
+        expectingName = object;
+        return event;
+    }
+
+    private PullEvent endScope(PullEvent event) {
+        depth--;
+        completeElement();
+        return event;
+    }
+
+    private void completeElement() {
+        hasElements = true;
+        expectingName = depth > 0 && objectScopes[depth - 1];
+    }
+
+    private Object readScalar(int c) {
+        if (c == '"') {
+            read();
+            return readString();
+        }
+
+        if (c == '-' || (c >= '0' && c <= '9')) {
+            return readNumber();
+        }
+
+        String literal = readLiteral();
+        switch (literal) {
+            case "true":
+                return Boolean.TRUE;
+            case "false":
+                return Boolean.FALSE;
+            case "null":
+                return null;
+            default:
+                throw new IllegalArgumentException(
+                    "Unexpected token '" + literal + "' at offset " + offset + ".");
+        }
+    }
+
+    private String readString() {
+        text.setLength(0);
+        while (true) {
+            int c = read();
+            if (c == '"') {
+                return text.toString();
+            } else if (c == '\\') {
+                text.append(readEscape());
+            } else if (c == EOF) {
+                throw unexpected(c);
+            } else {
+                text.append((char) c);
+            }
+        }
+    }
+
+    private char readEscape() {
+        int c = read();
+        switch (c) {
+            case '"':
+            case '\\':
+            case '/':
+                return (char) c;
+            case 'b':
+                return '\b';
+            case 'f':
+                return '\f';
+            case 'n':
+                return '\n';
+            case 'r':
+                return '\r';
+            case 't':
+                return '\t';
+            case 'u':
+                return (char) (hexDigit() << 12 | hexDigit() << 8 | hexDigit() << 4 | hexDigit());
+            default:
+                throw unexpected(c);
+        }
+    }
+
+    private int hexDigit() {
+        int c = read();
+        int digit = Character.digit(c, 16);
+        if (c == EOF || digit < 0) {
+            throw unexpected(c);
+        }
+
+        return digit;
+    }
+
+    private Object readNumber() {
+        text.setLength(0);
+        boolean integral = true;
+        for (int c = peek(); isNumberPart(c); c = peek()) {
+            integral = integral && c != '.' && c != 'e' && c != 'E';
+            text.append((char) read());
+        }
+
+        String number = text.toString();
+        try {
+            return integral ? parseIntegral(number) : (Object) Double.parseDouble(number);
+        } catch (NumberFormatException exception) {
+            throw new IllegalArgumentException(
+                "Malformed number '" + number + "' at offset " + offset + ".", exception);
+        }
+    }
+
+    private static Object parseIntegral(String number) {
+        try {
+            return Long.parseLong(number);
+        } catch (NumberFormatException exception) {
+            return new BigInteger(number);
+        }
+    }
+
+    private static boolean isNumberPart(int c) {
+        return (c >= '0' && c <= '9') || c == '-' || c == '+' || c == '.' || c == 'e' || c == 'E';
+    }
+
+    private String readLiteral() {
+        text.setLength(0);
+        for (int c = peek(); c >= 'a' && c <= 'z'; c = peek()) {
+            text.append((char) read());
+        }
+
+        if (text.length() == 0) {
+            throw unexpected(read());
+        }
+
+        return text.toString();
+    }
+
+    private void expect(char expected, int c) {
+        if (c != expected) {
+            throw unexpected(c);
+        }
+
+        read();
+    }
+
+    private IllegalArgumentException unexpected(int c) {
+        String found = c == EOF ? "end of input" : "'" + (char) c + "'";
+        return new IllegalArgumentException("Unexpected " + found + " at offset " + offset + ".");
+    }
+
+    private int skipWhitespace() {
+        int c = peek();
+        while (c == ' ' || c == '\n' || c == '\r' || c == '\t') {
+            read();
+            c = peek();
+        }
+
+        return c;
+    }
+
+    private int peek() {
+        return position < limit || fill() ? buffer[position] : EOF;
+    }
+
+    private int read() {
+        if (position < limit || fill()) {
+            offset++;
+            return buffer[position++];
+        }
+
+        return EOF;
+    }
+
+    private boolean fill() {
+        try {
+            limit = input.read(buffer, 0, buffer.length);
+            position = 0;
+            return limit > 0;
+        } catch (IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+    }
+
+    @Override
+    public String getFieldName() {
+        return fieldName;
+    }
+
+    @Override
+    public Object getValue() {
+        return value;
+    }
+}
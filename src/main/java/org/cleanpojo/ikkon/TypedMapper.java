@@ -0,0 +1,76 @@
+package org.cleanpojo.ikkon;
+
+public final class TypedMapper<S, T> {
+
+    private final Mapper mapper;
+    private final Class<S> sourceType;
+    private final Class<T> destinationType;
+    private final FieldMask mask;
+    private volatile BoundPlan boundPlan;
+
+    TypedMapper(
+        final Mapper mapper,
+        final Class<S> sourceType,
+        final Class<T> destinationType,
+        final FieldMask mask) {
+
+        this.mapper = mapper;
+        this.sourceType = sourceType;
+        this.destinationType = destinationType;
+        this.mask = mask;
+        this.boundPlan = bindPlan(mapper.getPlanEpoch());
+    }
+
+    @SuppressWarnings("unchecked")
+    public T map(S source) {
+        if (source == null) {
+            return null;
+        }
+
+        try {
+            return (T)getPlan().execute(mapper, source);
+        } catch (ReflectiveOperationException exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+
+    public T map(S source, T target) {
+        Mapper.requireTarget(target);
+        if (source == null) {
+            return target;
+        }
+
+        try {
+            getPlan().apply(mapper, source, target);
+            return target;
+        } catch (ReflectiveOperationException exception) {
+            throw new RuntimeException(exception);
+        }
+    }
+
+    private MappingPlan getPlan() {
+        int epoch = mapper.getPlanEpoch();
+        BoundPlan boundPlan = this.boundPlan;
+        if (boundPlan.epoch != epoch) {
+            boundPlan = bindPlan(epoch);
+            this.boundPlan = boundPlan;
+        }
+
+        return boundPlan.plan;
+    }
+
+    private BoundPlan bindPlan(int epoch) {
+        return new BoundPlan(epoch, mapper.getPlan(sourceType, destinationType, mask));
+    }
+
+    private static final class BoundPlan {
+
+        private final int epoch;
+        private final MappingPlan plan;
+
+        BoundPlan(final int epoch, final MappingPlan plan) {
+            this.epoch = epoch;
+            this.plan = plan;
+        }
+    }
+}
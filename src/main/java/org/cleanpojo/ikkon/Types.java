@@ -0,0 +1,100 @@
+package org.cleanpojo.ikkon;
+
+import java.lang.reflect.Array;
+import java.lang.reflect.GenericArrayType;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Type;
+import java.lang.reflect.TypeVariable;
+import java.lang.reflect.WildcardType;
+import java.util.HashMap;
+import java.util.Map;
+
+interface Types {
+
+    static Class<?> rawType(Type type) {
+        if (type instanceof Class<?>) {
+            return (Class<?>) type;
+        } else if (type instanceof ParameterizedType) {
+            return rawType(((ParameterizedType) type).getRawType());
+        } else if (type instanceof GenericArrayType) {
+            Class<?> componentType = rawType(((GenericArrayType) type).getGenericComponentType());
+            return Array.newInstance(componentType, 0).getClass();
+        } else if (type instanceof WildcardType) {
+            return rawType(((WildcardType) type).getUpperBounds()[0]);
+        } else if (type instanceof TypeVariable<?>) {
+            return rawType(((TypeVariable<?>) type).getBounds()[0]);
+        } else {
+            return Object.class;
+        }
+    }
+
+    static Type resolve(Type type, Type context) {
+        return substitute(type, collectTypeArguments(context, new HashMap<>()));
+    }
+
+    static Type resolveTypeArgument(Type type, Class<?> genericType, int index) {
+        return resolve(genericType.getTypeParameters()[index], type);
+    }
+
+    static Type typeArgument(Type type, int index) {
+        if (type instanceof ParameterizedType) {
+            Type argument = ((ParameterizedType) type).getActualTypeArguments()[index];
+            return argument instanceof WildcardType
+                ? ((WildcardType) argument).getUpperBounds()[0]
+                : argument;
+        }
+
+        return Object.class;
+    }
+
+    private static Map<TypeVariable<?>, Type> collectTypeArguments(
+            Type type,
+            Map<TypeVariable<?>, Type> arguments) {
+
+        Class<?> rawType = rawType(type);
+        if (type instanceof ParameterizedType) {
+            TypeVariable<?>[] parameters = rawType.getTypeParameters();
+            Type[] actualArguments = ((ParameterizedType) type).getActualTypeArguments();
+            for (int i = 0; i < parameters.length; i++) {
+                arguments.put(parameters[i], substitute(actualArguments[i], arguments));
+            }
+        }
+
+        Type superclass = rawType.getGenericSuperclass();
+        if (superclass != null) {
+            collectTypeArguments(substitute(superclass, arguments), arguments);
+        }
+
+        for (Type contract : rawType.getGenericInterfaces()) {
+            collectTypeArguments(substitute(contract, arguments), arguments);
+        }
+
+        return arguments;
+    }
+
+    private static Type substitute(Type type, Map<TypeVariable<?>, Type> arguments) {
+        if (type instanceof TypeVariable<?>) {
+            return arguments.getOrDefault(type, type);
+        } else if (type instanceof ParameterizedType) {
+            var parameterizedType = (ParameterizedType) type;
+            Type[] typeArguments = parameterizedType.getActualTypeArguments();
+            for (int i = 0; i < typeArguments.length; i++) {
+                typeArguments[i] = substitute(typeArguments[i], arguments);
+            }
+
+            return new ResolvedParameterizedType(
+                rawType(parameterizedType.getRawType()),
+                parameterizedType.getOwnerType(),
+                typeArguments);
+        } else if (type instanceof WildcardType) {
+            return substitute(((WildcardType) type).getUpperBounds()[0], arguments);
+        } else if (type instanceof GenericArrayType) {
+            Type componentType = substitute(((GenericArrayType) type).getGenericComponentType(), arguments);
+            return componentType instanceof Class<?>
+                ? Array.newInstance((Class<?>) componentType, 0).getClass()
+                : type;
+        } else {
+            return type;
+        }
+    }
+}
@@ -1,111 +1,77 @@
 package org.cleanpojo.ikkon;
 
-import static org.cleanpojo.ikkon.ConstructorResolver.resolveConstructor;
-import static org.cleanpojo.ikkon.ParameterNameResolver.resolveParameterNames;
-import static org.cleanpojo.ikkon.PropertySetter.setProperties;
+import static org.cleanpojo.ikkon.ArgumentResolver.isComplexType;
+import static org.cleanpojo.ikkon.FieldAccessors.getInstanceFields;
+import static org.cleanpojo.ikkon.Records.getAccessors;
 import static org.cleanpojo.ikkon.StringFunctions.startsWith;
 
-import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
 import java.lang.reflect.Method;
-import java.util.ArrayList;
-import java.util.List;
+import java.lang.reflect.Modifier;
 
 final class UnflatteningGetterSelector implements GetterSelector {
 
-    @Override
-    public Getter select(Object source, PropertyHint property) {
-        if (source == null) {
-            return null;
-        }
+    private final PlanCompiler compiler;
 
-        if (property.getType().equals(String.class)) {
+    public UnflatteningGetterSelector(final PlanCompiler compiler) {
+        this.compiler = compiler;
+    }
+
+    @Override
+    public Getter select(Class<?> sourceType, PropertyHint property) {
+        if (isUnflattenable(property) == false) {
             return null;
         }
 
-        List<Method> getters = getGetters(property, source.getClass());
-
-        if (getters.size() == 0) {
+        if (hasAccessors(property, sourceType) == false) {
             return null;
-
         }
 
-        return () -> unflattenTo(property, source, getters);
+        MappingPlan plan = compiler.compile(
+            sourceType,
+            property.getGenericType(),
+            property.getName(),
+            property.getMask());
+        return Getter.typed(property.getGenericType(), false, plan::execute);
     }
 
-    private static List<Method> getGetters(
-            PropertyHint property, Class<?> source) {
-
-        String prefix = "get" + property.getName();
-        var getters = new ArrayList<Method>();
-        for (Method method : source.getMethods()) {
-            if (startsWith(method.getName(), prefix)) {
-                getters.add(method);
-            }
-        }
-
-        return getters;
+    static boolean isUnflattenable(PropertyHint property) {
+        return property.getName().isEmpty() == false
+            && property.getType().equals(Object.class) == false
+            && Modifier.isAbstract(property.getType().getModifiers()) == false
+            && isComplexType(property.getType());
     }
 
-    private static Object unflattenTo(
-            PropertyHint property,
-            Object source,
-            List<Method> getters)
-            throws ReflectiveOperationException {
-
-        Constructor<?> constructor = resolveConstructor(property.getType());
-        Object[] arguments = resolveArguments(property, constructor, source, getters);
-        Object instance = constructor.newInstance(arguments);
-        setProperties(instance, property.getName(), source);
-        return instance;
+    private boolean hasAccessors(PropertyHint property, Class<?> sourceType) {
+        return compiler.isFieldAccess()
+            ? hasFields(property, sourceType)
+            : hasGetters(property, sourceType);
     }
 
-    private static Object[] resolveArguments(
-            PropertyHint property,
-            Constructor<?> constructor,
-            Object source,
-            List<Method> getters)
-            throws ReflectiveOperationException {
-
-        String[] parameterNames = resolveParameterNames(constructor);
-        var arguments = new Object[constructor.getParameterCount()];
-
-        for (int i = 0; i < arguments.length; i++) {
-            Class<?> subPropertyType = constructor.getParameterTypes()[i];
-            String subPropertyName = property.getName() + parameterNames[i];
-            PropertyHint subProperty = new PropertyHint(subPropertyType, subPropertyName);
-            arguments[i] = resolveArgument(subProperty, source, getters);
+    private static boolean hasFields(PropertyHint property, Class<?> sourceType) {
+        for (Field field : getInstanceFields(sourceType)) {
+            if (startsWith(field.getName(), property.getName())) {
+                return true;
+            }
         }
 
-        return arguments;
+        return false;
     }
 
-    private static Object resolveArgument(
-            PropertyHint property, Object source, List<Method> getters)
-            throws ReflectiveOperationException {
-
-        Object argument = null;
-
-        argument = tryMap(property, source, getters);
-
-        if (argument == null) {
-            argument = unflattenTo(property, source, getters);
+    private static boolean hasGetters(PropertyHint property, Class<?> sourceType) {
+        for (Method accessor : getAccessors(sourceType)) {
+            if (startsWith(accessor.getName(), property.getName())) {
+                return true;
+            }
         }
 
-        return argument;
-    }
-
-    private static Object tryMap(
-            PropertyHint property, Object source, List<Method> getters)
-            throws ReflectiveOperationException {
-
-        String getterName = "get" + property.getName();
-
-        for (Method getter : getters) {
-            if (getter.getName().equalsIgnoreCase(getterName)) {
-                return getter.invoke(source);
+        String prefix = "get" + property.getName();
+        for (Method method : sourceType.getMethods()) {
+            if (startsWith(method.getName(), prefix)) {
+                return true;
             }
         }
 
-        return null;
+        return false;
     }
 }
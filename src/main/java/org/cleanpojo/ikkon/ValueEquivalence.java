@@ -0,0 +1,154 @@
+package org.cleanpojo.ikkon;
+
+import static org.cleanpojo.ikkon.ArgumentResolver.refineValue;
+import static org.cleanpojo.ikkon.ImmutableTypes.isImmutable;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+interface ValueEquivalence {
+
+    static boolean matches(Mapper mapper, PropertyBinding binding, Object current, Object value)
+            throws ReflectiveOperationException {
+
+        if (binding == null) {
+            return Objects.equals(current, value);
+        } else if (value == null || value == Getter.ABSENT) {
+            return Objects.equals(current, DefaultValue.of(binding.getType()));
+        } else if (binding.getConverter() != null) {
+            return Objects.equals(current, binding.getConverter().apply(value));
+        } else if (current == value) {
+            return true;
+        } else if (current == null || binding.isShared()) {
+            return Objects.equals(current, value);
+        }
+
+        Class<?> type = binding.getType();
+        if (type.equals(Optional.class)) {
+            return current instanceof Optional<?>
+                && matches(mapper, binding.getElement(), (Optional<?>) current, value);
+        } else if (type.equals(Map.class)) {
+            return current instanceof Map<?, ?>
+                && matches(mapper, binding.getElement(), (Map<?, ?>) current, (Map<?, ?>) value);
+        } else if (binding.getElement() != null) {
+            return current instanceof Iterable<?>
+                && matches(
+                    mapper,
+                    binding.getElement(),
+                    ((Iterable<?>) current).iterator(),
+                    ((Iterable<?>) value).iterator());
+        } else if (binding.getPlans() != null) {
+            MappingPlan plan = binding.getPlans().get(mapper, value.getClass());
+            return plan.isComparable(current)
+                ? plan.matches(mapper, value, current)
+                : isEquivalent(mapper, current, refineValue(mapper, binding, value));
+        }
+
+        return Objects.equals(current, value);
+    }
+
+    private static boolean matches(
+            Mapper mapper,
+            PropertyBinding element,
+            Optional<?> current,
+            Object value)
+            throws ReflectiveOperationException {
+
+        Object elementValue = value instanceof Optional<?> ? ((Optional<?>) value).orElse(null) : value;
+        return elementValue == null
+            ? current.isEmpty()
+            : current.isPresent() && matches(mapper, element, current.get(), elementValue);
+    }
+
+    private static boolean matches(
+            Mapper mapper,
+            PropertyBinding element,
+            Map<?, ?> current,
+            Map<?, ?> value)
+            throws ReflectiveOperationException {
+
+        if (current.size() != value.size()) {
+            return false;
+        }
+
+        for (Map.Entry<?, ?> entry : value.entrySet()) {
+            Object key = entry.getKey();
+            if (current.containsKey(key) == false
+                || matches(mapper, element, current.get(key), entry.getValue()) == false) {
+
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean matches(
+            Mapper mapper,
+            PropertyBinding element,
+            Iterator<?> current,
+            Iterator<?> value)
+            throws ReflectiveOperationException {
+
+        while (current.hasNext() && value.hasNext()) {
+            if (matches(mapper, element, current.next(), value.next()) == false) {
+                return false;
+            }
+        }
+
+        return current.hasNext() == false && value.hasNext() == false;
+    }
+
+    static boolean isEquivalent(Mapper mapper, Object left, Object right) {
+        if (Objects.equals(left, right)) {
+            return true;
+        } else if (left == null || right == null || left.getClass() != right.getClass()) {
+            return false;
+        } else if (left instanceof Iterable<?>) {
+            return isEquivalent(mapper, ((Iterable<?>) left).iterator(), ((Iterable<?>) right).iterator());
+        } else if (left instanceof Map<?, ?>) {
+            return isEquivalent(mapper, (Map<?, ?>) left, (Map<?, ?>) right);
+        } else if (left instanceof Optional<?>) {
+            return isEquivalent(mapper, ((Optional<?>) left).orElse(null), ((Optional<?>) right).orElse(null));
+        } else if (isImmutable(left.getClass()) || overridesEquals(left.getClass())) {
+            return false;
+        }
+
+        return isEquivalent(mapper, mapper.map(left, Map.class), mapper.map(right, Map.class));
+    }
+
+    private static boolean isEquivalent(Mapper mapper, Iterator<?> left, Iterator<?> right) {
+        while (left.hasNext() && right.hasNext()) {
+            if (isEquivalent(mapper, left.next(), right.next()) == false) {
+                return false;
+            }
+        }
+
+        return left.hasNext() == false && right.hasNext() == false;
+    }
+
+    private static boolean isEquivalent(Mapper mapper, Map<?, ?> left, Map<?, ?> right) {
+        if (left.size() != right.size()) {
+            return false;
+        }
+
+        for (Map.Entry<?, ?> entry : left.entrySet()) {
+            Object key = entry.getKey();
+            if (right.containsKey(key) == false || isEquivalent(mapper, entry.getValue(), right.get(key)) == false) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static boolean overridesEquals(Class<?> type) {
+        try {
+            return type.getMethod("equals", Object.class).getDeclaringClass() != Object.class;
+        } catch (NoSuchMethodException exception) {
+            return false;
+        }
+    }
+}
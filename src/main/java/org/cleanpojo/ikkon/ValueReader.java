@@ -0,0 +1,30 @@
+package org.cleanpojo.ikkon;
+
+interface ValueReader {
+
+    Object read(Mapper mapper, EventReader reader, PullEvent event) throws ReflectiveOperationException;
+
+    static void skip(EventReader reader, PullEvent event) {
+        int depth = 0;
+        while (true) {
+            if (event == PullEvent.START_OBJECT || event == PullEvent.START_ARRAY) {
+                depth++;
+            } else if (event == PullEvent.END_OBJECT || event == PullEvent.END_ARRAY) {
+                depth--;
+            } else if (event == PullEvent.END_OF_INPUT) {
+                throw unexpected(PullEvent.VALUE, event);
+            }
+
+            if (depth == 0) {
+                return;
+            }
+
+            event = reader.next();
+        }
+    }
+
+    static IllegalArgumentException unexpected(PullEvent expected, PullEvent actual) {
+        String message = "Expected " + expected + " but found " + actual + ".";
+        return new IllegalArgumentException(message);
+    }
+}
@@ -0,0 +1,62 @@
+package org.cleanpojo.ikkon.specs.boundedcache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.ThrowableAssert.catchThrowable;
+import static org.cleanpojo.ikkon.specs.Generator.create;
+
+import org.cleanpojo.ikkon.Mapper;
+import org.cleanpojo.ikkon.MapperOptions;
+import org.junit.Test;
+
+public class BoundedCacheSpecs {
+
+    @Test
+    public void evicts_plans_above_maximum_size() {
+        var sut = new Mapper(new MapperOptions().withPlanCacheSize(1));
+
+        sut.map(create(ColdEntity1.class), ColdEntity1.class);
+        sut.map(create(ColdEntity2.class), ColdEntity2.class);
+        sut.map(create(ColdEntity1.class), ColdEntity1.class);
+
+        var statistics = sut.getPlanCacheStatistics();
+        assertThat(statistics.getMisses()).isEqualTo(3);
+        assertThat(statistics.getEvictions()).isEqualTo(2);
+    }
+
+    @Test
+    public void keeps_hot_plan_resident_while_evicting_cold_plans() {
+        var sut = new Mapper(new MapperOptions().withPlanCacheSize(2));
+        sut.map(create(HotEntity.class), HotEntity.class);
+
+        sut.map(create(HotEntity.class), HotEntity.class);
+        sut.map(create(ColdEntity1.class), ColdEntity1.class);
+        sut.map(create(HotEntity.class), HotEntity.class);
+        sut.map(create(ColdEntity2.class), ColdEntity2.class);
+        sut.map(create(HotEntity.class), HotEntity.class);
+        sut.map(create(ColdEntity3.class), ColdEntity3.class);
+        sut.map(create(HotEntity.class), HotEntity.class);
+
+        var statistics = sut.getPlanCacheStatistics();
+        assertThat(statistics.getMisses()).isEqualTo(4);
+        assertThat(statistics.getHits()).isEqualTo(4);
+        assertThat(statistics.getEvictions()).isEqualTo(2);
+    }
+
+    @Test
+    public void does_not_evict_plans_by_default() {
+        var sut = new Mapper();
+
+        sut.map(create(ColdEntity1.class), ColdEntity1.class);
+        sut.map(create(ColdEntity2.class), ColdEntity2.class);
+        sut.map(create(ColdEntity3.class), ColdEntity3.class);
+
+        assertThat(sut.getPlanCacheStatistics().getEvictions()).isZero();
+    }
+
+    @Test
+    public void fails_if_plan_cache_size_is_not_positive() {
+        Throwable thrown = catchThrowable(() -> new MapperOptions().withPlanCacheSize(0));
+
+        assertThat(thrown).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,16 @@
+package org.cleanpojo.ikkon.specs.boundedcache;
+
+import java.util.UUID;
+
+public class ColdEntity2 {
+
+    private final UUID id;
+
+    public ColdEntity2(final UUID id) {
+        this.id = id;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+}
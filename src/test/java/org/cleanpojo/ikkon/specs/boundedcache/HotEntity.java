@@ -0,0 +1,16 @@
+package org.cleanpojo.ikkon.specs.boundedcache;
+
+import java.util.UUID;
+
+public class HotEntity {
+
+    private final UUID id;
+
+    public HotEntity(final UUID id) {
+        this.id = id;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+}
@@ -0,0 +1,72 @@
+package org.cleanpojo.ikkon.specs.builder;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.ThrowableAssert.catchThrowable;
+
+import java.util.UUID;
+
+import org.cleanpojo.ikkon.FieldMask;
+import org.cleanpojo.ikkon.Mapper;
+import org.junit.Test;
+
+public class BuilderSpecs {
+
+    @Test
+    public void builds_destination_through_fluent_setters() {
+        var sut = new Mapper();
+        var source = new TicketCommand(UUID.randomUUID(), "Broken build", 2, new Person("Alice"));
+
+        Ticket actual = sut.map(source, Ticket.class);
+
+        assertThat(actual.getId()).isEqualTo(source.getId());
+        assertThat(actual.getTitle()).isEqualTo(source.getTitle());
+        assertThat(actual.getPriority()).isEqualTo(source.getPriority());
+    }
+
+    @Test
+    public void flattens_source_into_fluent_setter() {
+        var sut = new Mapper();
+        var source = new TicketCommand(UUID.randomUUID(), "Slow query", 1, new Person("Bob"));
+
+        Ticket actual = sut.map(source, Ticket.class);
+
+        assertThat(actual.getAssigneeName()).isEqualTo("Bob");
+    }
+
+    @Test
+    public void threads_builder_returned_by_each_fluent_setter() {
+        var sut = new Mapper();
+        var source = new Release(3, 14);
+
+        Version actual = sut.map(source, Version.class);
+
+        assertThat(actual.getMajor()).isEqualTo(3);
+        assertThat(actual.getMinor()).isEqualTo(14);
+    }
+
+    @Test
+    public void skips_fluent_setters_excluded_by_field_mask() {
+        var sut = new Mapper();
+        var source = new TicketCommand(UUID.randomUUID(), "Typo", 5, new Person("Carol"));
+
+        Ticket actual = sut.map(source, Ticket.class, FieldMask.of("id"));
+
+        assertThat(actual.getId()).isEqualTo(source.getId());
+        assertThat(actual.getTitle()).isNull();
+        assertThat(actual.getPriority()).isZero();
+    }
+
+    @Test
+    public void fails_fast_when_mapping_into_builder_only_instance() {
+        var sut = new Mapper();
+        var original = new TicketCommand(UUID.randomUUID(), "Flaky test", 3, new Person("Dave"));
+        Ticket target = sut.map(original, Ticket.class);
+        var source = new TicketCommand(UUID.randomUUID(), "Stale cache", 1, new Person("Erin"));
+
+        Throwable thrown = catchThrowable(() -> sut.map(source, target));
+
+        assertThat(thrown)
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("builder");
+    }
+}
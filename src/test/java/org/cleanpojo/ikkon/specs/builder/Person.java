@@ -0,0 +1,14 @@
+package org.cleanpojo.ikkon.specs.builder;
+
+public class Person {
+
+    private final String name;
+
+    public Person(String name) {
+        this.name = name;
+    }
+
+    public String getName() {
+        return name;
+    }
+}
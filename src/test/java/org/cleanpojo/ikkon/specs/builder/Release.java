@@ -0,0 +1,20 @@
+package org.cleanpojo.ikkon.specs.builder;
+
+public class Release {
+
+    private final int major;
+    private final int minor;
+
+    public Release(int major, int minor) {
+        this.major = major;
+        this.minor = minor;
+    }
+
+    public int getMajor() {
+        return major;
+    }
+
+    public int getMinor() {
+        return minor;
+    }
+}
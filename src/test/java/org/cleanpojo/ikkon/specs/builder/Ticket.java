@@ -0,0 +1,73 @@
+package org.cleanpojo.ikkon.specs.builder;
+
+import java.util.UUID;
+
+public class Ticket {
+
+    private final UUID id;
+    private final String title;
+    private final int priority;
+    private final String assigneeName;
+
+    private Ticket(Builder builder) {
+        this.id = builder.id;
+        this.title = builder.title;
+        this.priority = builder.priority;
+        this.assigneeName = builder.assigneeName;
+    }
+
+    public static Builder builder() {
+        return new Builder();
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public int getPriority() {
+        return priority;
+    }
+
+    public String getAssigneeName() {
+        return assigneeName;
+    }
+
+    public static class Builder {
+
+        private UUID id;
+        private String title;
+        private int priority;
+        private String assigneeName;
+
+        private Builder() {
+        }
+
+        public Builder withId(UUID id) {
+            this.id = id;
+            return this;
+        }
+
+        public Builder withTitle(String title) {
+            this.title = title;
+            return this;
+        }
+
+        public Builder priority(int priority) {
+            this.priority = priority;
+            return this;
+        }
+
+        public Builder assigneeName(String assigneeName) {
+            this.assigneeName = assigneeName;
+            return this;
+        }
+
+        public Ticket build() {
+            return new Ticket(this);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package org.cleanpojo.ikkon.specs.builder;
+
+import java.util.UUID;
+
+public class TicketCommand {
+
+    private final UUID id;
+    private final String title;
+    private final int priority;
+    private final Person assignee;
+
+    public TicketCommand(UUID id, String title, int priority, Person assignee) {
+        this.id = id;
+        this.title = title;
+        this.priority = priority;
+        this.assignee = assignee;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public int getPriority() {
+        return priority;
+    }
+
+    public Person getAssignee() {
+        return assignee;
+    }
+}
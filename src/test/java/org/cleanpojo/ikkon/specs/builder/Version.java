@@ -0,0 +1,47 @@
+package org.cleanpojo.ikkon.specs.builder;
+
+public final class Version {
+
+    private final int major;
+    private final int minor;
+
+    private Version(int major, int minor) {
+        this.major = major;
+        this.minor = minor;
+    }
+
+    public static Builder builder() {
+        return new Builder(0, 0);
+    }
+
+    public int getMajor() {
+        return major;
+    }
+
+    public int getMinor() {
+        return minor;
+    }
+
+    public static final class Builder {
+
+        private final int major;
+        private final int minor;
+
+        private Builder(int major, int minor) {
+            this.major = major;
+            this.minor = minor;
+        }
+
+        public Builder major(int major) {
+            return new Builder(major, minor);
+        }
+
+        public Builder minor(int minor) {
+            return new Builder(major, minor);
+        }
+
+        public Version build() {
+            return new Version(major, minor);
+        }
+    }
+}
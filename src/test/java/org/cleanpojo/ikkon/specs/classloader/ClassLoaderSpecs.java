@@ -0,0 +1,197 @@
+package org.cleanpojo.ikkon.specs.classloader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.cleanpojo.ikkon.specs.Generator.create;
+
+import java.lang.ref.WeakReference;
+import java.util.List;
+import java.util.UUID;
+
+import org.cleanpojo.ikkon.Mapper;
+import org.cleanpojo.ikkon.RowSource;
+import org.cleanpojo.ikkon.TextEventReader;
+import org.cleanpojo.ikkon.specs.basic.ImmutableEntity;
+import org.junit.Test;
+
+public class ClassLoaderSpecs {
+
+    @Test
+    public void loads_isolated_class_in_separate_class_loader() throws Exception {
+        var loader = new IsolatingClassLoader(Entity.class);
+
+        Class<?> isolatedType = loader.loadClass(Entity.class.getName());
+
+        assertThat(isolatedType).isNotEqualTo(Entity.class);
+    }
+
+    @Test
+    public void does_not_pin_class_loader_of_mapped_types() throws Exception {
+        var sut = new Mapper();
+
+        WeakReference<ClassLoader> loader = mapIsolatedToIsolated(sut);
+
+        assertThat(isCollected(loader)).isTrue();
+    }
+
+    @Test
+    public void does_not_pin_class_loader_of_destination_type() throws Exception {
+        var sut = new Mapper();
+
+        WeakReference<ClassLoader> loader = mapSharedToIsolated(sut);
+
+        assertThat(isCollected(loader)).isTrue();
+    }
+
+    @Test
+    public void does_not_retain_mapper_through_plans_cached_on_shared_types() throws Exception {
+        WeakReference<Mapper> mapper = useMapper();
+
+        assertThat(isCollected(mapper)).isTrue();
+    }
+
+    @Test
+    public void does_not_pin_class_loader_of_event_read_destination() throws Exception {
+        var sut = new Mapper();
+
+        WeakReference<ClassLoader> loader = readIsolated(sut);
+
+        assertThat(isCollected(loader)).isTrue();
+    }
+
+    @Test
+    public void does_not_pin_class_loader_of_row_destination() throws Exception {
+        var sut = new Mapper();
+
+        WeakReference<ClassLoader> loader = mapRowsToIsolated(sut);
+
+        assertThat(isCollected(loader)).isTrue();
+    }
+
+    @Test
+    public void recompiles_only_plans_of_invalidated_type() {
+        var sut = new Mapper();
+        sut.map(create(Entity.class), Entity.class);
+        sut.map(create(ImmutableEntity.class), Entity.class);
+
+        sut.invalidate(ImmutableEntity.class);
+        sut.map(create(Entity.class), Entity.class);
+        sut.map(create(ImmutableEntity.class), Entity.class);
+
+        var statistics = sut.getPlanCacheStatistics();
+        assertThat(statistics.getMisses()).isEqualTo(3);
+        assertThat(statistics.getHits()).isEqualTo(1);
+    }
+
+    @Test
+    public void recompiles_all_plans_after_invalidating_all() {
+        var sut = new Mapper();
+        sut.map(create(Entity.class), Entity.class);
+
+        sut.invalidateAll();
+        sut.map(create(Entity.class), Entity.class);
+
+        var statistics = sut.getPlanCacheStatistics();
+        assertThat(statistics.getMisses()).isEqualTo(2);
+        assertThat(statistics.getHits()).isEqualTo(0);
+    }
+
+    @Test
+    public void counts_pairs_that_cannot_be_cached_separately() throws Exception {
+        var sut = new Mapper();
+        Class<?> sourceType = new IsolatingClassLoader(Entity.class).loadClass(Entity.class.getName());
+        Class<?> destinationType = new IsolatingClassLoader(Entity.class).loadClass(Entity.class.getName());
+        Object source = sourceType
+            .getConstructor(UUID.class, String.class)
+            .newInstance(UUID.randomUUID(), "foo");
+
+        sut.map(source, destinationType);
+        Object actual = sut.map(source, destinationType);
+
+        var statistics = sut.getPlanCacheStatistics();
+        assertThat(actual).isInstanceOf(destinationType);
+        assertThat(statistics.getUncached()).isEqualTo(2);
+        assertThat(statistics.getMisses()).isZero();
+    }
+
+    private static WeakReference<ClassLoader> mapIsolatedToIsolated(Mapper mapper) throws Exception {
+        var loader = new IsolatingClassLoader(Entity.class);
+        Class<?> isolatedType = loader.loadClass(Entity.class.getName());
+        Object source = isolatedType
+            .getConstructor(UUID.class, String.class)
+            .newInstance(UUID.randomUUID(), "foo");
+
+        Object actual = mapper.map(source, isolatedType);
+
+        assertThat(actual).isInstanceOf(isolatedType).isNotSameAs(source);
+        return new WeakReference<>(loader);
+    }
+
+    private static WeakReference<ClassLoader> mapSharedToIsolated(Mapper mapper) throws Exception {
+        var loader = new IsolatingClassLoader(Entity.class);
+        Class<?> isolatedType = loader.loadClass(Entity.class.getName());
+
+        Object actual = mapper.map(create(Entity.class), isolatedType);
+
+        assertThat(actual).isInstanceOf(isolatedType);
+        return new WeakReference<>(loader);
+    }
+
+    private static WeakReference<Mapper> useMapper() {
+        var mapper = new Mapper();
+        Entity source = create(Entity.class);
+
+        mapper.map(source, Entity.class);
+        mapper.read(new TextEventReader("{\"name\": \"foo\"}"), Entity.class);
+        mapper.fromColumns(mapper.toColumns(List.of(source), Entity.class), Entity.class);
+
+        return new WeakReference<>(mapper);
+    }
+
+    private static WeakReference<ClassLoader> readIsolated(Mapper mapper) throws Exception {
+        var loader = new IsolatingClassLoader(Entity.class);
+        Class<?> isolatedType = loader.loadClass(Entity.class.getName());
+
+        Object actual = mapper.read(new TextEventReader("{\"name\": \"foo\"}"), isolatedType);
+
+        assertThat(actual).isInstanceOf(isolatedType);
+        return new WeakReference<>(loader);
+    }
+
+    private static WeakReference<ClassLoader> mapRowsToIsolated(Mapper mapper) throws Exception {
+        var loader = new IsolatingClassLoader(Entity.class);
+        Class<?> isolatedType = loader.loadClass(Entity.class.getName());
+        var rows = new RowSource() {
+
+            private int row = -1;
+
+            @Override
+            public List<String> getColumnNames() {
+                return List.of("name");
+            }
+
+            @Override
+            public boolean next() {
+                return ++row < 1;
+            }
+
+            @Override
+            public Object getObject(int column) {
+                return "foo";
+            }
+        };
+
+        List<?> actual = mapper.mapRows(rows, isolatedType);
+
+        assertThat(actual).hasOnlyElementsOfType(isolatedType);
+        return new WeakReference<>(loader);
+    }
+
+    private static boolean isCollected(WeakReference<?> reference) throws InterruptedException {
+        for (int i = 0; i < 50 && reference.get() != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+
+        return reference.get() == null;
+    }
+}
@@ -0,0 +1,36 @@
+package org.cleanpojo.ikkon.specs.classloader;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+public class IsolatingClassLoader extends ClassLoader {
+
+    private final String isolatedClassName;
+
+    public IsolatingClassLoader(final Class<?> isolatedClass) {
+        super(isolatedClass.getClassLoader());
+        this.isolatedClassName = isolatedClass.getName();
+    }
+
+    @Override
+    protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+        if (name.equals(isolatedClassName) == false) {
+            return super.loadClass(name, resolve);
+        }
+
+        synchronized (getClassLoadingLock(name)) {
+            Class<?> type = findLoadedClass(name);
+            return type == null ? defineIsolatedClass(name) : type;
+        }
+    }
+
+    private Class<?> defineIsolatedClass(String name) throws ClassNotFoundException {
+        String path = name.replace('.', '/') + ".class";
+        try (InputStream stream = getParent().getResourceAsStream(path)) {
+            byte[] bytes = stream.readAllBytes();
+            return defineClass(name, bytes, 0, bytes.length);
+        } catch (IOException exception) {
+            throw new ClassNotFoundException(name, exception);
+        }
+    }
+}
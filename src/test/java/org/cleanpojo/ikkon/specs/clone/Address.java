@@ -0,0 +1,14 @@
+package org.cleanpojo.ikkon.specs.clone;
+
+public class Address {
+
+    private String city;
+
+    public String getCity() {
+        return city;
+    }
+
+    public void setCity(String city) {
+        this.city = city;
+    }
+}
@@ -0,0 +1,77 @@
+package org.cleanpojo.ikkon.specs.clone;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+
+import org.cleanpojo.ikkon.Mapper;
+import org.cleanpojo.ikkon.MapperOptions;
+import org.junit.Test;
+
+public class CloneSpecs {
+
+    @Test
+    public void clones_same_class_into_new_instance() {
+        var sut = new Mapper();
+        Contact source = createContact();
+
+        Contact actual = sut.map(source, Contact.class);
+
+        assertThat(actual).isNotSameAs(source);
+        assertThat(actual.getName()).isEqualTo(source.getName());
+        assertThat(actual.getBirthday()).isEqualTo(source.getBirthday());
+    }
+
+    @Test
+    public void shares_immutable_leaves() {
+        var sut = new Mapper();
+        Contact source = createContact();
+
+        Contact actual = sut.map(source, Contact.class);
+
+        assertThat(actual.getBirthday()).isSameAs(source.getBirthday());
+    }
+
+    @Test
+    public void copies_mutable_children_deeply_by_default() {
+        var sut = new Mapper();
+        Contact source = createContact();
+
+        Contact actual = sut.map(source, Contact.class);
+
+        assertThat(actual.getAddress()).isNotSameAs(source.getAddress());
+        assertThat(actual.getAddress().getCity()).isEqualTo("Seoul");
+    }
+
+    @Test
+    public void shares_mutable_children_when_deep_clone_is_disabled() {
+        var sut = new Mapper(new MapperOptions().withDeepClone(false));
+        Contact source = createContact();
+
+        Contact actual = sut.map(source, Contact.class);
+
+        assertThat(actual.getAddress()).isSameAs(source.getAddress());
+    }
+
+    @Test
+    public void copies_structurally_identical_twin() {
+        var sut = new Mapper(new MapperOptions().withDeepClone(false));
+        Contact source = createContact();
+
+        ContactTwin actual = sut.map(source, ContactTwin.class);
+
+        assertThat(actual.getName()).isEqualTo(source.getName());
+        assertThat(actual.getBirthday()).isSameAs(source.getBirthday());
+        assertThat(actual.getAddress()).isSameAs(source.getAddress());
+    }
+
+    private static Contact createContact() {
+        var address = new Address();
+        address.setCity("Seoul");
+        var contact = new Contact();
+        contact.setName("Alice");
+        contact.setBirthday(LocalDate.of(1990, 5, 17));
+        contact.setAddress(address);
+        return contact;
+    }
+}
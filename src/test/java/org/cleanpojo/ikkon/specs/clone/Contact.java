@@ -0,0 +1,34 @@
+package org.cleanpojo.ikkon.specs.clone;
+
+import java.time.LocalDate;
+
+public class Contact {
+
+    private String name;
+    private LocalDate birthday;
+    private Address address;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public LocalDate getBirthday() {
+        return birthday;
+    }
+
+    public void setBirthday(LocalDate birthday) {
+        this.birthday = birthday;
+    }
+
+    public Address getAddress() {
+        return address;
+    }
+
+    public void setAddress(Address address) {
+        this.address = address;
+    }
+}
@@ -0,0 +1,103 @@
+package org.cleanpojo.ikkon.specs.columnar;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.ThrowableAssert.catchThrowable;
+
+import java.util.List;
+
+import org.cleanpojo.ikkon.Columns;
+import org.cleanpojo.ikkon.Mapper;
+import org.junit.Test;
+
+public class ColumnarSpecs {
+
+    private static final List<Order> ORDERS = List.of(
+        new Order(1, 2, 19.5, new Address("Seoul")),
+        new Order(2, 5, 42.0, new Address("Busan")),
+        new Order(3, 1, 7.25, null));
+
+    @Test
+    public void converts_objects_to_primitive_columns() {
+        var sut = new Mapper();
+
+        Columns actual = sut.toColumns(ORDERS, OrderRow.class);
+
+        assertThat(actual.size()).isEqualTo(3);
+        assertThat(actual.getLongs("id")).containsExactly(1, 2, 3);
+        assertThat(actual.getDoubles("total")).containsExactly(19.5, 42.0, 7.25);
+    }
+
+    @Test
+    public void flattens_nested_properties_into_columns() {
+        var sut = new Mapper();
+
+        Columns actual = sut.toColumns(ORDERS, OrderRow.class);
+
+        assertThat(actual.getObjects("shippingAddressCity", String.class))
+            .containsExactly("Seoul", "Busan", null);
+    }
+
+    @Test
+    public void widens_primitive_properties_into_wider_columns() {
+        var sut = new Mapper();
+
+        Columns actual = sut.toColumns(ORDERS, OrderRow.class);
+
+        assertThat(actual.getLongs("quantity")).containsExactly(2, 5, 1);
+    }
+
+    @Test
+    public void materializes_objects_from_columns() {
+        var sut = new Mapper();
+        var columns = new Columns(
+            new String[] { "id", "quantity", "total", "shippingAddressCity" },
+            new Object[] {
+                new long[] { 7, 8 },
+                new int[] { 3, 4 },
+                new double[] { 1.5, 2.5 },
+                new String[] { "Incheon", null }
+            });
+
+        List<Order> actual = sut.fromColumns(columns, Order.class);
+
+        assertThat(actual).extracting(Order::getId).containsExactly(7L, 8L);
+        assertThat(actual).extracting(Order::getQuantity).containsExactly(3, 4);
+        assertThat(actual).extracting(Order::getTotal).containsExactly(1.5, 2.5);
+        assertThat(actual.get(0).getShippingAddress().getCity()).isEqualTo("Incheon");
+        assertThat(actual.get(1).getShippingAddress()).isNull();
+    }
+
+    @Test
+    public void round_trips_through_columns() {
+        var sut = new Mapper();
+
+        List<OrderRow> actual = sut.fromColumns(sut.toColumns(ORDERS, OrderRow.class), OrderRow.class);
+
+        assertThat(actual).extracting(OrderRow::getId).containsExactly(1L, 2L, 3L);
+        assertThat(actual).extracting(OrderRow::getShippingAddressCity).containsExactly("Seoul", "Busan", null);
+    }
+
+    @Test
+    public void rejects_columns_of_different_lengths() {
+        Throwable thrown = catchThrowable(() -> new Columns(
+            new String[] { "id", "total" },
+            new Object[] { new long[] { 1, 2 }, new double[] { 1.0 } }));
+
+        assertThat(thrown).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void caches_column_writers_until_source_type_is_invalidated() {
+        var sut = new Mapper();
+        sut.toColumns(ORDERS, OrderRow.class);
+        long misses = sut.getPlanCacheStatistics().getMisses();
+
+        sut.toColumns(ORDERS, OrderRow.class);
+        long missesWhenCached = sut.getPlanCacheStatistics().getMisses();
+        sut.invalidate(Order.class);
+        sut.toColumns(ORDERS, OrderRow.class);
+
+        assertThat(missesWhenCached).isEqualTo(misses);
+        assertThat(sut.getPlanCacheStatistics().getMisses()).isEqualTo(misses + 1);
+    }
+}
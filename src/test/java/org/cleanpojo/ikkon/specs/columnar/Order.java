@@ -0,0 +1,32 @@
+package org.cleanpojo.ikkon.specs.columnar;
+
+public class Order {
+
+    private final long id;
+    private final int quantity;
+    private final double total;
+    private final Address shippingAddress;
+
+    public Order(long id, int quantity, double total, Address shippingAddress) {
+        this.id = id;
+        this.quantity = quantity;
+        this.total = total;
+        this.shippingAddress = shippingAddress;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public double getTotal() {
+        return total;
+    }
+
+    public Address getShippingAddress() {
+        return shippingAddress;
+    }
+}
@@ -0,0 +1,32 @@
+package org.cleanpojo.ikkon.specs.columnar;
+
+public class OrderRow {
+
+    private final long id;
+    private final long quantity;
+    private final double total;
+    private final String shippingAddressCity;
+
+    public OrderRow(long id, long quantity, double total, String shippingAddressCity) {
+        this.id = id;
+        this.quantity = quantity;
+        this.total = total;
+        this.shippingAddressCity = shippingAddressCity;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public long getQuantity() {
+        return quantity;
+    }
+
+    public double getTotal() {
+        return total;
+    }
+
+    public String getShippingAddressCity() {
+        return shippingAddressCity;
+    }
+}
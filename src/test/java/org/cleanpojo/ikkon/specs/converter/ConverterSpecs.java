@@ -0,0 +1,72 @@
+package org.cleanpojo.ikkon.specs.converter;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.cleanpojo.ikkon.Mapper;
+import org.cleanpojo.ikkon.MapperOptions;
+import org.junit.Test;
+
+public class ConverterSpecs {
+
+    @Test
+    public void converts_property_with_registered_converter() {
+        var sut = new Mapper(createOptions());
+        var source = createPayment();
+
+        PaymentView actual = sut.map(source, PaymentView.class);
+
+        assertThat(actual.getPrice()).isEqualByComparingTo("12.50");
+    }
+
+    @Test
+    public void converts_to_primitive_target_type() {
+        var sut = new Mapper(createOptions());
+
+        PaymentView actual = sut.map(createPayment(), PaymentView.class);
+
+        assertThat(actual.getPaidAt()).isEqualTo(paidAt().toEpochMilli());
+    }
+
+    @Test
+    public void finds_converter_registered_for_source_supertype() {
+        var sut = new Mapper(createOptions());
+
+        PaymentView actual = sut.map(createPayment(), PaymentView.class);
+
+        assertThat(actual.getAttempts()).isEqualTo("#3");
+    }
+
+    @Test
+    public void does_not_call_converter_for_null_value() {
+        var calls = new AtomicInteger();
+        var sut = new Mapper(createOptions().withConverter(Money.class, BigDecimal.class, money -> {
+            calls.incrementAndGet();
+            return money.getAmount();
+        }));
+        var source = new Payment(null, paidAt(), 1);
+
+        PaymentView actual = sut.map(source, PaymentView.class);
+
+        assertThat(actual.getPrice()).isNull();
+        assertThat(calls).hasValue(0);
+    }
+
+    private static MapperOptions createOptions() {
+        return new MapperOptions()
+            .withConverter(Money.class, BigDecimal.class, Money::getAmount)
+            .withConverter(Instant.class, long.class, Instant::toEpochMilli)
+            .withConverter(Number.class, String.class, number -> "#" + number);
+    }
+
+    private static Payment createPayment() {
+        return new Payment(new Money(new BigDecimal("12.50"), "USD"), paidAt(), 3);
+    }
+
+    private static Instant paidAt() {
+        return Instant.ofEpochMilli(1_600_000_000_000L);
+    }
+}
@@ -0,0 +1,22 @@
+package org.cleanpojo.ikkon.specs.converter;
+
+import java.math.BigDecimal;
+
+public class Money {
+
+    private final BigDecimal amount;
+    private final String currency;
+
+    public Money(BigDecimal amount, String currency) {
+        this.amount = amount;
+        this.currency = currency;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public String getCurrency() {
+        return currency;
+    }
+}
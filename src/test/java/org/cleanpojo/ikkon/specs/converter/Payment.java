@@ -0,0 +1,28 @@
+package org.cleanpojo.ikkon.specs.converter;
+
+import java.time.Instant;
+
+public class Payment {
+
+    private final Money price;
+    private final Instant paidAt;
+    private final Integer attempts;
+
+    public Payment(Money price, Instant paidAt, Integer attempts) {
+        this.price = price;
+        this.paidAt = paidAt;
+        this.attempts = attempts;
+    }
+
+    public Money getPrice() {
+        return price;
+    }
+
+    public Instant getPaidAt() {
+        return paidAt;
+    }
+
+    public Integer getAttempts() {
+        return attempts;
+    }
+}
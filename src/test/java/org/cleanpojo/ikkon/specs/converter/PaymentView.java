@@ -0,0 +1,28 @@
+package org.cleanpojo.ikkon.specs.converter;
+
+import java.math.BigDecimal;
+
+public class PaymentView {
+
+    private final BigDecimal price;
+    private final long paidAt;
+    private final String attempts;
+
+    public PaymentView(BigDecimal price, long paidAt, String attempts) {
+        this.price = price;
+        this.paidAt = paidAt;
+        this.attempts = attempts;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    public long getPaidAt() {
+        return paidAt;
+    }
+
+    public String getAttempts() {
+        return attempts;
+    }
+}
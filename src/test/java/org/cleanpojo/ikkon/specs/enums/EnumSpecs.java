@@ -0,0 +1,104 @@
+package org.cleanpojo.ikkon.specs.enums;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.ThrowableAssert.catchThrowable;
+
+import org.cleanpojo.ikkon.Mapper;
+import org.junit.Test;
+
+public class EnumSpecs {
+
+    @Test
+    public void maps_enum_to_other_enum_by_name() {
+        var sut = new Mapper();
+        var source = new Order(OrderStatus.SHIPPED, OrderStatus.PENDING, "DELIVERED");
+
+        OrderDto actual = sut.map(source, OrderDto.class);
+
+        assertThat(actual.getStatus()).isEqualTo(OrderStatusDto.SHIPPED);
+    }
+
+    @Test
+    public void maps_enum_to_string() {
+        var sut = new Mapper();
+        var source = new Order(OrderStatus.SHIPPED, OrderStatus.PENDING, "DELIVERED");
+
+        OrderDto actual = sut.map(source, OrderDto.class);
+
+        assertThat(actual.getPreviousStatus()).isEqualTo("PENDING");
+    }
+
+    @Test
+    public void maps_string_to_enum() {
+        var sut = new Mapper();
+        var source = new Order(OrderStatus.SHIPPED, OrderStatus.PENDING, "DELIVERED");
+
+        OrderDto actual = sut.map(source, OrderDto.class);
+
+        assertThat(actual.getRequestedStatus()).isEqualTo(OrderStatus.DELIVERED);
+    }
+
+    @Test
+    public void copies_same_enum_as_is() {
+        var sut = new Mapper();
+        var source = new Order(OrderStatus.DELIVERED, null, null);
+
+        Order actual = sut.map(source, Order.class);
+
+        assertThat(actual.getStatus()).isSameAs(OrderStatus.DELIVERED);
+        assertThat(actual.getPreviousStatus()).isNull();
+    }
+
+    @Test
+    public void fails_for_constant_without_counterpart() {
+        var sut = new Mapper();
+        var source = new OrderDto(OrderStatusDto.CANCELLED, null, null);
+
+        Throwable thrown = catchThrowable(() -> sut.map(source, Order.class));
+
+        assertThat(thrown)
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("CANCELLED");
+    }
+
+    @Test
+    public void fails_for_unknown_name() {
+        var sut = new Mapper();
+        var source = new Order(OrderStatus.PENDING, OrderStatus.PENDING, "LOST");
+
+        Throwable thrown = catchThrowable(() -> sut.map(source, OrderDto.class));
+
+        assertThat(thrown)
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("LOST");
+    }
+
+    @Test
+    public void maps_top_level_enum_to_other_enum() {
+        var sut = new Mapper();
+
+        OrderStatusDto actual = sut.map(OrderStatus.SHIPPED, OrderStatusDto.class);
+
+        assertThat(actual).isEqualTo(OrderStatusDto.SHIPPED);
+    }
+
+    @Test
+    public void maps_top_level_enum_to_and_from_string() {
+        var sut = new Mapper();
+
+        String name = sut.map(OrderStatus.PENDING, String.class);
+        OrderStatus status = sut.map("DELIVERED", OrderStatus.class);
+
+        assertThat(name).isEqualTo("PENDING");
+        assertThat(status).isEqualTo(OrderStatus.DELIVERED);
+    }
+
+    @Test
+    public void returns_top_level_enum_mapped_to_its_own_type() {
+        var sut = new Mapper();
+
+        OrderStatus actual = sut.map(OrderStatus.SHIPPED, OrderStatus.class);
+
+        assertThat(actual).isSameAs(OrderStatus.SHIPPED);
+    }
+}
@@ -0,0 +1,26 @@
+package org.cleanpojo.ikkon.specs.enums;
+
+public class Order {
+
+    private final OrderStatus status;
+    private final OrderStatus previousStatus;
+    private final String requestedStatus;
+
+    public Order(OrderStatus status, OrderStatus previousStatus, String requestedStatus) {
+        this.status = status;
+        this.previousStatus = previousStatus;
+        this.requestedStatus = requestedStatus;
+    }
+
+    public OrderStatus getStatus() {
+        return status;
+    }
+
+    public OrderStatus getPreviousStatus() {
+        return previousStatus;
+    }
+
+    public String getRequestedStatus() {
+        return requestedStatus;
+    }
+}
@@ -0,0 +1,26 @@
+package org.cleanpojo.ikkon.specs.enums;
+
+public class OrderDto {
+
+    private final OrderStatusDto status;
+    private final String previousStatus;
+    private final OrderStatus requestedStatus;
+
+    public OrderDto(OrderStatusDto status, String previousStatus, OrderStatus requestedStatus) {
+        this.status = status;
+        this.previousStatus = previousStatus;
+        this.requestedStatus = requestedStatus;
+    }
+
+    public OrderStatusDto getStatus() {
+        return status;
+    }
+
+    public String getPreviousStatus() {
+        return previousStatus;
+    }
+
+    public OrderStatus getRequestedStatus() {
+        return requestedStatus;
+    }
+}
@@ -0,0 +1,7 @@
+package org.cleanpojo.ikkon.specs.enums;
+
+public enum OrderStatus {
+    PENDING,
+    SHIPPED,
+    DELIVERED
+}
@@ -0,0 +1,8 @@
+package org.cleanpojo.ikkon.specs.enums;
+
+public enum OrderStatusDto {
+    CANCELLED,
+    DELIVERED,
+    SHIPPED,
+    PENDING
+}
@@ -0,0 +1,159 @@
+package org.cleanpojo.ikkon.specs.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.ThrowableAssert.catchThrowable;
+
+import org.cleanpojo.ikkon.Mapper;
+import org.cleanpojo.ikkon.TextEventReader;
+import org.junit.Test;
+
+public class EventSpecs {
+
+    @Test
+    public void reads_constructor_arguments_from_events() {
+        var sut = new Mapper();
+        var reader = new TextEventReader(
+            "{ \"id\": \"order-1\", \"quantity\": 3, \"status\": \"SHIPPED\","
+            + " \"shippingAddress\": { \"city\": \"Seoul\", \"street\": \"Sejong-daero\" } }");
+
+        Order actual = sut.read(reader, Order.class);
+
+        assertThat(actual.getId()).isEqualTo("order-1");
+        assertThat(actual.getQuantity()).isEqualTo(3);
+        assertThat(actual.getStatus()).isEqualTo(Status.SHIPPED);
+        assertThat(actual.getShippingAddress().getCity()).isEqualTo("Seoul");
+        assertThat(actual.getShippingAddress().getStreet()).isEqualTo("Sejong-daero");
+    }
+
+    @Test
+    public void reads_list_elements_from_events() {
+        var sut = new Mapper();
+        var reader = new TextEventReader(
+            "{\"lines\": [{\"sku\": \"A-1\", \"price\": 100}, {\"sku\": \"B-2\", \"price\": 250}]}");
+
+        Order actual = sut.read(reader, Order.class);
+
+        assertThat(actual.getLines()).extracting(Line::getSku).containsExactly("A-1", "B-2");
+        assertThat(actual.getLines()).extracting(Line::getPrice).containsExactly(100L, 250L);
+    }
+
+    @Test
+    public void routes_remaining_fields_to_setters() {
+        var sut = new Mapper();
+        var reader = new TextEventReader("{\"note\": \"Leave at the door\", \"id\": \"order-2\"}");
+
+        Order actual = sut.read(reader, Order.class);
+
+        assertThat(actual.getId()).isEqualTo("order-2");
+        assertThat(actual.getNote()).isEqualTo("Leave at the door");
+    }
+
+    @Test
+    public void fills_missing_fields_with_default_values() {
+        var sut = new Mapper();
+        var reader = new TextEventReader("{\"id\": \"order-3\", \"quantity\": null}");
+
+        Order actual = sut.read(reader, Order.class);
+
+        assertThat(actual.getQuantity()).isZero();
+        assertThat(actual.getShippingAddress()).isNull();
+        assertThat(actual.getNote()).isNull();
+    }
+
+    @Test
+    public void skips_unknown_fields() {
+        var sut = new Mapper();
+        var reader = new TextEventReader(
+            "{\"tags\": [\"a\", {\"b\": [1, 2]}], \"meta\": {\"x\": {}}, \"id\": \"order-4\"}");
+
+        Order actual = sut.read(reader, Order.class);
+
+        assertThat(actual.getId()).isEqualTo("order-4");
+    }
+
+    @Test
+    public void matches_snake_case_field_names() {
+        var sut = new Mapper();
+        var reader = new TextEventReader("{\"shipping_address\": {\"city\": \"Busan\"}}");
+
+        Order actual = sut.read(reader, Order.class);
+
+        assertThat(actual.getShippingAddress().getCity()).isEqualTo("Busan");
+    }
+
+    @Test
+    public void reads_consecutive_objects_from_one_stream() {
+        var sut = new Mapper();
+        var reader = new TextEventReader("{\"city\": \"Seoul\"}\n{\"city\": \"Busan\"}\n");
+
+        Address first = sut.read(reader, Address.class);
+        Address second = sut.read(reader, Address.class);
+        Address end = sut.read(reader, Address.class);
+
+        assertThat(first.getCity()).isEqualTo("Seoul");
+        assertThat(second.getCity()).isEqualTo("Busan");
+        assertThat(end).isNull();
+    }
+
+    @Test
+    public void decodes_string_escapes() {
+        var sut = new Mapper();
+        var reader = new TextEventReader("{\"city\": \"S\\u00e9oul\\n\\\"1\\\"\"}");
+
+        Address actual = sut.read(reader, Address.class);
+
+        assertThat(actual.getCity()).isEqualTo("S\u00e9oul\n\"1\"");
+    }
+
+    @Test
+    public void rejects_malformed_text() {
+        var sut = new Mapper();
+        var reader = new TextEventReader("{\"city\" \"Seoul\"}");
+
+        Throwable thrown = catchThrowable(() -> sut.read(reader, Address.class));
+
+        assertThat(thrown)
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("offset");
+    }
+
+    @Test
+    public void rejects_overflowing_numbers() {
+        var sut = new Mapper();
+        var reader = new TextEventReader("{\"quantity\": 3000000000}");
+
+        Throwable thrown = catchThrowable(() -> sut.read(reader, Order.class));
+
+        assertThat(thrown).isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    public void reads_long_max_value_exactly() {
+        var sut = new Mapper();
+        var reader = new TextEventReader("{\"value\": 9223372036854775807}");
+
+        Measurement actual = sut.read(reader, Measurement.class);
+
+        assertThat(actual.getValue()).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    public void reads_long_min_value_exactly() {
+        var sut = new Mapper();
+        var reader = new TextEventReader("{\"value\": -9223372036854775808}");
+
+        Measurement actual = sut.read(reader, Measurement.class);
+
+        assertThat(actual.getValue()).isEqualTo(Long.MIN_VALUE);
+    }
+
+    @Test
+    public void reads_large_integers_without_rounding_through_double() {
+        var sut = new Mapper();
+        var reader = new TextEventReader("{\"value\": 1000000000000000001}");
+
+        Measurement actual = sut.read(reader, Measurement.class);
+
+        assertThat(actual.getValue()).isEqualTo(1000000000000000001L);
+    }
+}
@@ -0,0 +1,20 @@
+package org.cleanpojo.ikkon.specs.event;
+
+public class Line {
+
+    private final String sku;
+    private final long price;
+
+    public Line(String sku, long price) {
+        this.sku = sku;
+        this.price = price;
+    }
+
+    public String getSku() {
+        return sku;
+    }
+
+    public long getPrice() {
+        return price;
+    }
+}
@@ -0,0 +1,14 @@
+package org.cleanpojo.ikkon.specs.event;
+
+public class Measurement {
+
+    private final long value;
+
+    public Measurement(long value) {
+        this.value = value;
+    }
+
+    public long getValue() {
+        return value;
+    }
+}
@@ -0,0 +1,49 @@
+package org.cleanpojo.ikkon.specs.event;
+
+import java.util.List;
+
+public class Order {
+
+    private final String id;
+    private final int quantity;
+    private final Status status;
+    private final Address shippingAddress;
+    private final List<Line> lines;
+    private String note;
+
+    public Order(String id, int quantity, Status status, Address shippingAddress, List<Line> lines) {
+        this.id = id;
+        this.quantity = quantity;
+        this.status = status;
+        this.shippingAddress = shippingAddress;
+        this.lines = lines;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public Address getShippingAddress() {
+        return shippingAddress;
+    }
+
+    public List<Line> getLines() {
+        return lines;
+    }
+
+    public String getNote() {
+        return note;
+    }
+
+    public void setNote(String note) {
+        this.note = note;
+    }
+}
@@ -0,0 +1,6 @@
+package org.cleanpojo.ikkon.specs.event;
+
+public enum Status {
+    PENDING,
+    SHIPPED
+}
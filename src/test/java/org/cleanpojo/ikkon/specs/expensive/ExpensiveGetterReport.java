@@ -0,0 +1,39 @@
+package org.cleanpojo.ikkon.specs.expensive;
+
+import java.util.UUID;
+
+import org.cleanpojo.ikkon.Expensive;
+
+public class ExpensiveGetterReport {
+
+    private final Rendezvous rendezvous;
+    private final UUID id;
+    private final long total;
+    private final String summary;
+
+    public ExpensiveGetterReport(
+        final Rendezvous rendezvous,
+        final UUID id,
+        final long total,
+        final String summary) {
+
+        this.rendezvous = rendezvous;
+        this.id = id;
+        this.total = total;
+        this.summary = summary;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    @Expensive
+    public long getTotal() {
+        return rendezvous.await(total);
+    }
+
+    @Expensive
+    public String getSummary() {
+        return rendezvous.await(summary);
+    }
+}
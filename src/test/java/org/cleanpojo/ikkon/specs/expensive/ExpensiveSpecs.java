@@ -0,0 +1,51 @@
+package org.cleanpojo.ikkon.specs.expensive;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.cleanpojo.ikkon.specs.Generator.createString;
+import static org.cleanpojo.ikkon.specs.Generator.createUUID;
+
+import java.util.concurrent.Executors;
+
+import org.cleanpojo.ikkon.Mapper;
+import org.cleanpojo.ikkon.MapperOptions;
+import org.junit.Test;
+
+public class ExpensiveSpecs {
+
+    @Test
+    public void evaluates_getters_marked_expensive_concurrently() {
+        String summary = createString();
+        var source = new ExpensiveGetterReport(new Rendezvous(2), createUUID(), 42L, summary);
+        var executor = Executors.newFixedThreadPool(2);
+        var sut = new Mapper(new MapperOptions().withExpensiveGetterExecutor(executor));
+
+        try {
+            var actual = sut.map(source, ReportView.class);
+
+            assertThat(actual.getId()).isEqualTo(source.getId());
+            assertThat(actual.getTotal()).isEqualTo(42L);
+            assertThat(actual.getSummary()).isEqualTo(summary);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void evaluates_getters_of_expensive_source_type_concurrently() {
+        String summary = createString();
+        var source = new Report(new Rendezvous(2), 42L, summary);
+        var executor = Executors.newFixedThreadPool(2);
+        var sut = new Mapper(new MapperOptions()
+            .withExpensiveSourceType(Report.class)
+            .withExpensiveGetterExecutor(executor));
+
+        try {
+            var actual = sut.map(source, MutableReportView.class);
+
+            assertThat(actual.getTotal()).isEqualTo(42L);
+            assertThat(actual.getSummary()).isEqualTo(summary);
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
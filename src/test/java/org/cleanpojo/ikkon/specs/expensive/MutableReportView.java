@@ -0,0 +1,23 @@
+package org.cleanpojo.ikkon.specs.expensive;
+
+public class MutableReportView {
+
+    private long total;
+    private String summary;
+
+    public long getTotal() {
+        return total;
+    }
+
+    public void setTotal(long total) {
+        this.total = total;
+    }
+
+    public String getSummary() {
+        return summary;
+    }
+
+    public void setSummary(String summary) {
+        this.summary = summary;
+    }
+}
@@ -0,0 +1,24 @@
+package org.cleanpojo.ikkon.specs.expensive;
+
+import java.util.concurrent.BrokenBarrierException;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+public class Rendezvous {
+
+    private final CyclicBarrier barrier;
+
+    public Rendezvous(int parties) {
+        barrier = new CyclicBarrier(parties);
+    }
+
+    public <T> T await(T value) {
+        try {
+            barrier.await(5, TimeUnit.SECONDS);
+            return value;
+        } catch (InterruptedException | BrokenBarrierException | TimeoutException exception) {
+            throw new RuntimeException("Getters were not evaluated concurrently.", exception);
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package org.cleanpojo.ikkon.specs.expensive;
+
+public class Report {
+
+    private final Rendezvous rendezvous;
+    private final long total;
+    private final String summary;
+
+    public Report(
+        final Rendezvous rendezvous,
+        final long total,
+        final String summary) {
+
+        this.rendezvous = rendezvous;
+        this.total = total;
+        this.summary = summary;
+    }
+
+    public long getTotal() {
+        return rendezvous.await(total);
+    }
+
+    public String getSummary() {
+        return rendezvous.await(summary);
+    }
+}
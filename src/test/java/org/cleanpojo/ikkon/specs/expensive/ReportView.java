@@ -0,0 +1,28 @@
+package org.cleanpojo.ikkon.specs.expensive;
+
+import java.util.UUID;
+
+public class ReportView {
+
+    private final UUID id;
+    private final long total;
+    private final String summary;
+
+    public ReportView(final UUID id, final long total, final String summary) {
+        this.id = id;
+        this.total = total;
+        this.summary = summary;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public String getSummary() {
+        return summary;
+    }
+}
@@ -0,0 +1,40 @@
+package org.cleanpojo.ikkon.specs.fieldaccess;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class AuditedAccount {
+
+    private static final AtomicInteger reads = new AtomicInteger();
+
+    private String owner;
+    private long balance;
+
+    public static AuditedAccount of(String owner, long balance) {
+        var account = new AuditedAccount();
+        account.owner = owner;
+        account.balance = balance;
+        return account;
+    }
+
+    public static int getReads() {
+        return reads.get();
+    }
+
+    public String getOwner() {
+        reads.incrementAndGet();
+        return owner;
+    }
+
+    public void setOwner(String owner) {
+        this.owner = owner;
+    }
+
+    public long getBalance() {
+        reads.incrementAndGet();
+        return balance;
+    }
+
+    public void setBalance(long balance) {
+        this.balance = balance;
+    }
+}
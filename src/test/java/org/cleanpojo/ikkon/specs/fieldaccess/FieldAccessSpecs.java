@@ -0,0 +1,78 @@
+package org.cleanpojo.ikkon.specs.fieldaccess;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.cleanpojo.ikkon.Mapper;
+import org.cleanpojo.ikkon.MapperOptions;
+import org.cleanpojo.ikkon.PatchResult;
+import org.junit.Test;
+
+public class FieldAccessSpecs {
+
+    @Test
+    public void copies_private_fields_of_types_without_accessors() {
+        var sut = new Mapper(new MapperOptions().withFieldAccess(true));
+        var source = new Sensor("sensor-1", 42, new Location("lab"));
+
+        SensorSnapshot actual = sut.map(source, SensorSnapshot.class);
+
+        assertThat(actual.id()).isEqualTo("sensor-1");
+        assertThat(actual.reading()).isEqualTo(42);
+    }
+
+    @Test
+    public void flattens_nested_fields() {
+        var sut = new Mapper(new MapperOptions().withFieldAccess(true));
+        var source = new Sensor("sensor-2", 7, new Location("hall"));
+
+        SensorSnapshot actual = sut.map(source, SensorSnapshot.class);
+
+        assertThat(actual.locationRoom()).isEqualTo("hall");
+    }
+
+    @Test
+    public void flattens_null_nested_field_to_null() {
+        var sut = new Mapper(new MapperOptions().withFieldAccess(true));
+        var source = new Sensor("sensor-3", 7, null);
+
+        SensorSnapshot actual = sut.map(source, SensorSnapshot.class);
+
+        assertThat(actual.locationRoom()).isNull();
+    }
+
+    @Test
+    public void bypasses_accessors_of_source_and_destination() {
+        var sut = new Mapper(new MapperOptions().withFieldAccess(true));
+        var source = AuditedAccount.of("alice", 100);
+        int readsBefore = AuditedAccount.getReads();
+
+        AuditedAccount actual = sut.map(source, AuditedAccount.class);
+
+        int reads = AuditedAccount.getReads() - readsBefore;
+        assertThat(reads).isZero();
+        assertThat(actual).isNotSameAs(source);
+        assertThat(actual.getOwner()).isEqualTo("alice");
+        assertThat(actual.getBalance()).isEqualTo(100);
+    }
+
+    @Test
+    public void patches_changed_fields() {
+        var sut = new Mapper(new MapperOptions().withFieldAccess(true));
+        var target = AuditedAccount.of("alice", 100);
+
+        PatchResult actual = sut.patch(AuditedAccount.of("alice", 250), target);
+
+        assertThat(actual.getChangedProperties()).containsExactly("balance");
+        assertThat(target.getBalance()).isEqualTo(250);
+    }
+
+    @Test
+    public void does_not_read_fields_by_default() {
+        var sut = new Mapper();
+        var source = new Sensor("sensor-4", 1, new Location("lab"));
+
+        SensorSnapshot actual = sut.map(source, SensorSnapshot.class);
+
+        assertThat(actual.id()).isNull();
+    }
+}
@@ -0,0 +1,10 @@
+package org.cleanpojo.ikkon.specs.fieldaccess;
+
+public class Location {
+
+    private String room;
+
+    public Location(String room) {
+        this.room = room;
+    }
+}
@@ -0,0 +1,14 @@
+package org.cleanpojo.ikkon.specs.fieldaccess;
+
+public class Sensor {
+
+    private String id;
+    private int reading;
+    private Location location;
+
+    public Sensor(String id, int reading, Location location) {
+        this.id = id;
+        this.reading = reading;
+        this.location = location;
+    }
+}
@@ -0,0 +1,20 @@
+package org.cleanpojo.ikkon.specs.fieldaccess;
+
+public class SensorSnapshot {
+
+    private String id;
+    private int reading;
+    private String locationRoom;
+
+    public String id() {
+        return id;
+    }
+
+    public int reading() {
+        return reading;
+    }
+
+    public String locationRoom() {
+        return locationRoom;
+    }
+}
@@ -0,0 +1,14 @@
+package org.cleanpojo.ikkon.specs.generics;
+
+public class Catalog {
+
+    private final Page<OrderLine> page;
+
+    public Catalog(Page<OrderLine> page) {
+        this.page = page;
+    }
+
+    public Page<OrderLine> getPage() {
+        return page;
+    }
+}
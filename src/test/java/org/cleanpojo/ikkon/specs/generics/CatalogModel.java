@@ -0,0 +1,14 @@
+package org.cleanpojo.ikkon.specs.generics;
+
+public class CatalogModel {
+
+    private final PageModel<OrderLineModel> page;
+
+    public CatalogModel(PageModel<OrderLineModel> page) {
+        this.page = page;
+    }
+
+    public PageModel<OrderLineModel> getPage() {
+        return page;
+    }
+}
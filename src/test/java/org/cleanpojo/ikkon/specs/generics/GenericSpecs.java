@@ -0,0 +1,93 @@
+package org.cleanpojo.ikkon.specs.generics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+import org.cleanpojo.ikkon.Mapper;
+import org.junit.Test;
+
+public class GenericSpecs {
+
+    @Test
+    public void maps_list_elements_with_element_plan() {
+        var sut = new Mapper();
+        var source = new Order(List.of(new OrderLine("A-1", 2), new OrderLine("B-2", 5)), Map.of(), List.of());
+
+        OrderModel actual = sut.map(source, OrderModel.class);
+
+        assertThat(actual.getLines()).hasSize(2);
+        assertThat(actual.getLines().get(0)).isInstanceOf(OrderLineModel.class);
+        assertThat(actual.getLines().get(1).getSku()).isEqualTo("B-2");
+        assertThat(actual.getLines().get(1).getQuantity()).isEqualTo(5L);
+    }
+
+    @Test
+    public void maps_map_values_with_element_plan() {
+        var sut = new Mapper();
+        var source = new Order(List.of(), Map.of("list", new Price(new BigDecimal("9.99"))), List.of());
+
+        OrderModel actual = sut.map(source, OrderModel.class);
+
+        assertThat(actual.getPrices().get("list")).isInstanceOf(PriceModel.class);
+        assertThat(actual.getPrices().get("list").getAmount()).isEqualByComparingTo("9.99");
+    }
+
+    @Test
+    public void converts_list_elements() {
+        var sut = new Mapper();
+        var source = new Order(List.of(), Map.of(), List.of(4, 5));
+
+        OrderModel actual = sut.map(source, OrderModel.class);
+
+        assertThat(actual.getRatings()).containsExactly(4L, 5L);
+    }
+
+    @Test
+    public void maps_generic_wrapper_with_type_argument_of_property() {
+        var sut = new Mapper();
+        var source = new Catalog(new Page<>(List.of(new OrderLine("C-3", 1)), 1));
+
+        CatalogModel actual = sut.map(source, CatalogModel.class);
+
+        assertThat(actual.getPage().getTotal()).isEqualTo(1);
+        assertThat(actual.getPage().getItems().get(0)).isInstanceOf(OrderLineModel.class);
+        assertThat(actual.getPage().getItems().get(0).getSku()).isEqualTo("C-3");
+    }
+
+    @Test
+    public void resolves_type_variables_through_class_hierarchy() {
+        var sut = new Mapper();
+        var source = new OrderLinePage(List.of(new OrderLine("D-4", 3)), 1);
+
+        OrderLinePageModel actual = sut.map(source, OrderLinePageModel.class);
+
+        assertThat(actual.getItems().get(0)).isInstanceOf(OrderLineModel.class);
+        assertThat(actual.getItems().get(0).getQuantity()).isEqualTo(3L);
+    }
+
+    @Test
+    public void caches_plans_of_generic_destinations_beyond_polymorphic_limit() {
+        var sut = new Mapper();
+        List<Page<String>> pages = List.of(
+            new Page<>(List.of("a"), 1) { },
+            new Page<>(List.of("b"), 1) { },
+            new Page<>(List.of("c"), 1) { },
+            new Page<>(List.of("d"), 1) { },
+            new Page<>(List.of("e"), 1) { });
+        for (Page<String> page : pages) {
+            sut.map(new TagCatalog(page), TagCatalogModel.class);
+        }
+
+        var before = sut.getPlanCacheStatistics();
+
+        TagCatalogModel actual = sut.map(new TagCatalog(pages.get(4)), TagCatalogModel.class);
+
+        var after = sut.getPlanCacheStatistics();
+        assertThat(actual.getPage().getItems()).containsExactly("e");
+        assertThat(after.getMisses()).isEqualTo(before.getMisses());
+        assertThat(after.getHits()).isEqualTo(before.getHits() + 2);
+    }
+}
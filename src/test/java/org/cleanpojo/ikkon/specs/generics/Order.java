@@ -0,0 +1,29 @@
+package org.cleanpojo.ikkon.specs.generics;
+
+import java.util.List;
+import java.util.Map;
+
+public class Order {
+
+    private final List<OrderLine> lines;
+    private final Map<String, Price> prices;
+    private final List<Integer> ratings;
+
+    public Order(List<OrderLine> lines, Map<String, Price> prices, List<Integer> ratings) {
+        this.lines = lines;
+        this.prices = prices;
+        this.ratings = ratings;
+    }
+
+    public List<OrderLine> getLines() {
+        return lines;
+    }
+
+    public Map<String, Price> getPrices() {
+        return prices;
+    }
+
+    public List<Integer> getRatings() {
+        return ratings;
+    }
+}
@@ -0,0 +1,20 @@
+package org.cleanpojo.ikkon.specs.generics;
+
+public class OrderLine {
+
+    private final String sku;
+    private final int quantity;
+
+    public OrderLine(String sku, int quantity) {
+        this.sku = sku;
+        this.quantity = quantity;
+    }
+
+    public String getSku() {
+        return sku;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+}
@@ -0,0 +1,20 @@
+package org.cleanpojo.ikkon.specs.generics;
+
+public class OrderLineModel {
+
+    private final String sku;
+    private final long quantity;
+
+    public OrderLineModel(String sku, long quantity) {
+        this.sku = sku;
+        this.quantity = quantity;
+    }
+
+    public String getSku() {
+        return sku;
+    }
+
+    public long getQuantity() {
+        return quantity;
+    }
+}
@@ -0,0 +1,10 @@
+package org.cleanpojo.ikkon.specs.generics;
+
+import java.util.List;
+
+public class OrderLinePage extends Page<OrderLine> {
+
+    public OrderLinePage(List<OrderLine> items, int total) {
+        super(items, total);
+    }
+}
@@ -0,0 +1,4 @@
+package org.cleanpojo.ikkon.specs.generics;
+
+public class OrderLinePageModel extends PageModel<OrderLineModel> {
+}
@@ -0,0 +1,29 @@
+package org.cleanpojo.ikkon.specs.generics;
+
+import java.util.List;
+import java.util.Map;
+
+public class OrderModel {
+
+    private final List<OrderLineModel> lines;
+    private final Map<String, PriceModel> prices;
+    private final List<Long> ratings;
+
+    public OrderModel(List<OrderLineModel> lines, Map<String, PriceModel> prices, List<Long> ratings) {
+        this.lines = lines;
+        this.prices = prices;
+        this.ratings = ratings;
+    }
+
+    public List<OrderLineModel> getLines() {
+        return lines;
+    }
+
+    public Map<String, PriceModel> getPrices() {
+        return prices;
+    }
+
+    public List<Long> getRatings() {
+        return ratings;
+    }
+}
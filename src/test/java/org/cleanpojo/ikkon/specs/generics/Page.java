@@ -0,0 +1,22 @@
+package org.cleanpojo.ikkon.specs.generics;
+
+import java.util.List;
+
+public class Page<T> {
+
+    private final List<T> items;
+    private final int total;
+
+    public Page(List<T> items, int total) {
+        this.items = items;
+        this.total = total;
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+}
@@ -0,0 +1,25 @@
+package org.cleanpojo.ikkon.specs.generics;
+
+import java.util.List;
+
+public class PageModel<T> {
+
+    private List<T> items;
+    private int total;
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public void setItems(List<T> items) {
+        this.items = items;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public void setTotal(int total) {
+        this.total = total;
+    }
+}
@@ -0,0 +1,16 @@
+package org.cleanpojo.ikkon.specs.generics;
+
+import java.math.BigDecimal;
+
+public class Price {
+
+    private final BigDecimal amount;
+
+    public Price(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+}
@@ -0,0 +1,14 @@
+package org.cleanpojo.ikkon.specs.generics;
+
+public class TagCatalog {
+
+    private final Page<String> page;
+
+    public TagCatalog(Page<String> page) {
+        this.page = page;
+    }
+
+    public Page<String> getPage() {
+        return page;
+    }
+}
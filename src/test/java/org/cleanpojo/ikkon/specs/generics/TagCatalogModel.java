@@ -0,0 +1,14 @@
+package org.cleanpojo.ikkon.specs.generics;
+
+public class TagCatalogModel {
+
+    private final PageModel<String> page;
+
+    public TagCatalogModel(PageModel<String> page) {
+        this.page = page;
+    }
+
+    public PageModel<String> getPage() {
+        return page;
+    }
+}
@@ -0,0 +1,124 @@
+package org.cleanpojo.ikkon.specs.inplace;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.ThrowableAssert.catchThrowable;
+import static org.cleanpojo.ikkon.specs.Generator.create;
+
+import java.util.HashMap;
+
+import org.cleanpojo.ikkon.Mapper;
+import org.junit.Test;
+
+public class InPlaceSpecs {
+
+    @Test
+    public void correctly_maps_into_existing_instance() {
+        var source = create(ImmutableEntity.class);
+        var target = new MutableEntity();
+        var sut = new Mapper();
+
+        MutableEntity actual = sut.map(source, target);
+
+        assertThat(actual).isSameAs(target);
+        assertThat(actual.getId()).isEqualTo(source.getId());
+        assertThat(actual.getName()).isEqualTo(source.getName());
+    }
+
+    @Test
+    public void overwrites_properties_of_recycled_instance() {
+        var target = new MutableEntity();
+        var sut = new Mapper();
+        sut.map(create(ImmutableEntity.class), target);
+        var source = create(ImmutableEntity.class);
+
+        sut.map(source, target);
+
+        assertThat(target.getId()).isEqualTo(source.getId());
+        assertThat(target.getName()).isEqualTo(source.getName());
+    }
+
+    @Test
+    public void maps_into_instance_of_type_with_multiple_constructors() {
+        var source = create(ImmutableEntity.class);
+        var target = new EntityWithMultipleConstructor();
+        var sut = new Mapper();
+
+        sut.map(source, target);
+
+        assertThat(target.getId()).isEqualTo(source.getId());
+        assertThat(target.getName()).isEqualTo(source.getName());
+    }
+
+    @Test
+    public void leaves_target_unchanged_if_source_is_null() {
+        var target = create(MutableEntity.class);
+        var id = target.getId();
+        var sut = new Mapper();
+
+        sut.map(null, target);
+
+        assertThat(target.getId()).isEqualTo(id);
+    }
+
+    @Test
+    public void maps_into_existing_instance_with_typed_mapper() {
+        var source = create(ImmutableEntity.class);
+        var target = new MutableEntity();
+        var sut = new Mapper().forTypes(ImmutableEntity.class, MutableEntity.class);
+
+        MutableEntity actual = sut.map(source, target);
+
+        assertThat(actual).isSameAs(target);
+        assertThat(actual.getId()).isEqualTo(source.getId());
+    }
+
+    @Test
+    public void fails_fast_when_mapping_into_map() {
+        var source = create(ImmutableEntity.class);
+        var sut = new Mapper();
+
+        Throwable thrown = catchThrowable(() -> sut.map(source, new HashMap<String, Object>()));
+
+        assertThat(thrown)
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining(HashMap.class.getName());
+    }
+
+    @Test
+    public void fails_fast_when_mapping_into_instance_without_setters() {
+        var source = create(MutableEntity.class);
+        var target = create(ImmutableEntity.class);
+        var sut = new Mapper();
+
+        Throwable thrown = catchThrowable(() -> sut.map(source, target));
+
+        assertThat(thrown)
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining(ImmutableEntity.class.getName())
+            .hasMessageContaining("no writable properties");
+    }
+
+    @Test
+    public void fails_fast_when_target_is_null() {
+        var source = create(ImmutableEntity.class);
+        var sut = new Mapper();
+
+        Throwable thrown = catchThrowable(() -> sut.map(source, (MutableEntity) null));
+
+        assertThat(thrown)
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("target cannot be null");
+    }
+
+    @Test
+    public void fails_fast_when_target_of_typed_mapper_is_null() {
+        var source = create(ImmutableEntity.class);
+        var sut = new Mapper().forTypes(ImmutableEntity.class, MutableEntity.class);
+
+        Throwable thrown = catchThrowable(() -> sut.map(source, null));
+
+        assertThat(thrown)
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("target cannot be null");
+    }
+}
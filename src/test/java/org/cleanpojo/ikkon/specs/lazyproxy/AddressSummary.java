@@ -0,0 +1,6 @@
+package org.cleanpojo.ikkon.specs.lazyproxy;
+
+public interface AddressSummary {
+
+    String getCity();
+}
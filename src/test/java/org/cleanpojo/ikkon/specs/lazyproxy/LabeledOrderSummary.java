@@ -0,0 +1,14 @@
+package org.cleanpojo.ikkon.specs.lazyproxy;
+
+public interface LabeledOrderSummary {
+
+    String getName();
+
+    default String getLabel() {
+        return "Order " + getName();
+    }
+
+    default String describe(String prefix) {
+        return prefix + getLabel();
+    }
+}
@@ -0,0 +1,80 @@
+package org.cleanpojo.ikkon.specs.lazyproxy;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.cleanpojo.ikkon.specs.Generator.createString;
+import static org.cleanpojo.ikkon.specs.Generator.createUUID;
+
+import org.cleanpojo.ikkon.Mapper;
+import org.junit.Test;
+
+public class LazyProxySpecs {
+
+    private static Order createOrder() {
+        return new Order(
+            createUUID(),
+            createString(),
+            new Address(createString(), createString()));
+    }
+
+    @Test
+    public void maps_to_interface_destination() {
+        var source = createOrder();
+        var sut = new Mapper();
+
+        OrderSummary actual = sut.map(source, OrderSummary.class);
+
+        assertThat(actual.getId()).isEqualTo(source.getId());
+        assertThat(actual.getName()).isEqualTo(source.getName());
+        assertThat(actual.getShippingAddress().getCity())
+            .isEqualTo(source.getShippingAddress().getCity());
+    }
+
+    @Test
+    public void reads_source_properties_only_when_accessed() {
+        var source = createOrder();
+        var sut = new Mapper();
+
+        OrderSummary actual = sut.map(source, OrderSummary.class);
+        source.reads().clear();
+        actual.getName();
+
+        assertThat(source.reads()).containsExactly("name");
+    }
+
+    @Test
+    public void memoizes_accessed_properties() {
+        var source = createOrder();
+        var sut = new Mapper();
+
+        OrderSummary actual = sut.map(source, OrderSummary.class);
+        source.reads().clear();
+        actual.getName();
+        actual.getName();
+        actual.getShippingAddress();
+        actual.getShippingAddress();
+
+        assertThat(source.reads()).containsExactly("name", "shippingAddress");
+        assertThat(actual.getShippingAddress()).isSameAs(actual.getShippingAddress());
+    }
+
+    @Test
+    public void returns_default_value_for_unprovided_property() {
+        var source = createOrder();
+        var sut = new Mapper();
+
+        OrderSummary actual = sut.map(source, OrderSummary.class);
+
+        assertThat(actual.isArchived()).isFalse();
+    }
+
+    @Test
+    public void invokes_default_methods_of_interface_destination() {
+        var source = createOrder();
+        var sut = new Mapper();
+
+        LabeledOrderSummary actual = sut.map(source, LabeledOrderSummary.class);
+
+        assertThat(actual.getLabel()).isEqualTo("Order " + source.getName());
+        assertThat(actual.describe("> ")).isEqualTo("> Order " + source.getName());
+    }
+}
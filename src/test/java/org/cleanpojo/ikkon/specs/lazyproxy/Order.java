@@ -0,0 +1,38 @@
+package org.cleanpojo.ikkon.specs.lazyproxy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+public class Order {
+
+    private final List<String> reads = new ArrayList<>();
+    private final UUID id;
+    private final String name;
+    private final Address shippingAddress;
+
+    public Order(final UUID id, final String name, final Address shippingAddress) {
+        this.id = id;
+        this.name = name;
+        this.shippingAddress = shippingAddress;
+    }
+
+    public UUID getId() {
+        reads.add("id");
+        return id;
+    }
+
+    public String getName() {
+        reads.add("name");
+        return name;
+    }
+
+    public Address getShippingAddress() {
+        reads.add("shippingAddress");
+        return shippingAddress;
+    }
+
+    public List<String> reads() {
+        return reads;
+    }
+}
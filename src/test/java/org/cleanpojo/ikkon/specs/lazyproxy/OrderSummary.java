@@ -0,0 +1,14 @@
+package org.cleanpojo.ikkon.specs.lazyproxy;
+
+import java.util.UUID;
+
+public interface OrderSummary {
+
+    UUID getId();
+
+    String getName();
+
+    AddressSummary getShippingAddress();
+
+    boolean isArchived();
+}
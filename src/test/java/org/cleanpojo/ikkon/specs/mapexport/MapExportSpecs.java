@@ -0,0 +1,60 @@
+package org.cleanpojo.ikkon.specs.mapexport;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.ThrowableAssert.catchThrowable;
+
+import java.util.Map;
+import java.util.UUID;
+
+import org.cleanpojo.ikkon.FieldMask;
+import org.cleanpojo.ikkon.Mapper;
+import org.junit.Test;
+
+public class MapExportSpecs {
+
+    @Test
+    public void exports_readable_properties_as_entries() {
+        var sut = new Mapper();
+        var source = new Product(UUID.randomUUID(), "Keyboard", 120, false);
+
+        Map<?, ?> actual = sut.map(source, Map.class);
+
+        assertThat(actual).isEqualTo(Map.of(
+            "id", source.getId(),
+            "name", "Keyboard",
+            "price", 120L,
+            "discontinued", false));
+    }
+
+    @Test
+    public void shares_key_schema_between_exported_maps() {
+        var sut = new Mapper();
+
+        Map<?, ?> first = sut.map(new Product(UUID.randomUUID(), "Mouse", 30, false), Map.class);
+        Map<?, ?> second = sut.map(new Product(UUID.randomUUID(), "Pad", 10, true), Map.class);
+
+        assertThat(first.keySet()).isSameAs(second.keySet());
+        assertThat(second.get("name")).isEqualTo("Pad");
+    }
+
+    @Test
+    public void exports_only_properties_in_field_mask() {
+        var sut = new Mapper();
+        var source = new Product(UUID.randomUUID(), "Monitor", 300, false);
+
+        Map<?, ?> actual = sut.map(source, Map.class, FieldMask.of("name", "price"));
+
+        assertThat(actual).isEqualTo(Map.of("name", "Monitor", "price", 300L));
+    }
+
+    @Test
+    public void returns_unmodifiable_map() {
+        var sut = new Mapper();
+        @SuppressWarnings("unchecked")
+        Map<String, Object> actual = sut.map(new Product(UUID.randomUUID(), "Cable", 5, false), Map.class);
+
+        Throwable thrown = catchThrowable(() -> actual.put("name", "Changed"));
+
+        assertThat(thrown).isInstanceOf(UnsupportedOperationException.class);
+    }
+}
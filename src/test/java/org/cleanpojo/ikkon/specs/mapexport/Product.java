@@ -0,0 +1,34 @@
+package org.cleanpojo.ikkon.specs.mapexport;
+
+import java.util.UUID;
+
+public class Product {
+
+    private final UUID id;
+    private final String name;
+    private final long price;
+    private final boolean discontinued;
+
+    public Product(UUID id, String name, long price, boolean discontinued) {
+        this.id = id;
+        this.name = name;
+        this.price = price;
+        this.discontinued = discontinued;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getPrice() {
+        return price;
+    }
+
+    public boolean isDiscontinued() {
+        return discontinued;
+    }
+}
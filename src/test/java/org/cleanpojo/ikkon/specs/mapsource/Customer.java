@@ -0,0 +1,32 @@
+package org.cleanpojo.ikkon.specs.mapsource;
+
+public class Customer {
+
+    private final String name;
+    private final String emailAddress;
+    private final String addressCity;
+    private final Address shippingAddress;
+
+    public Customer(String name, String emailAddress, String addressCity, Address shippingAddress) {
+        this.name = name;
+        this.emailAddress = emailAddress;
+        this.addressCity = addressCity;
+        this.shippingAddress = shippingAddress;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getEmailAddress() {
+        return emailAddress;
+    }
+
+    public String getAddressCity() {
+        return addressCity;
+    }
+
+    public Address getShippingAddress() {
+        return shippingAddress;
+    }
+}
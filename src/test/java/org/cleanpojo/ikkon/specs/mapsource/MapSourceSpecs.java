@@ -0,0 +1,120 @@
+package org.cleanpojo.ikkon.specs.mapsource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.cleanpojo.ikkon.Mapper;
+import org.junit.Test;
+
+public class MapSourceSpecs {
+
+    @Test
+    public void maps_keys_to_properties() {
+        var sut = new Mapper();
+        Map<String, Object> source = Map.of("name", "Alice");
+
+        Customer actual = sut.map(source, Customer.class);
+
+        assertThat(actual.getName()).isEqualTo("Alice");
+        assertThat(actual.getShippingAddress()).isNull();
+    }
+
+    @Test
+    public void matches_snake_case_keys() {
+        var sut = new Mapper();
+        Map<String, Object> source = Map.of("email_address", "alice@example.com");
+
+        Customer actual = sut.map(source, Customer.class);
+
+        assertThat(actual.getEmailAddress()).isEqualTo("alice@example.com");
+    }
+
+    @Test
+    public void flattens_flat_and_nested_map_paths() {
+        var sut = new Mapper();
+
+        Customer flat = sut.map(Map.of("addressCity", "Seoul"), Customer.class);
+        Customer nested = sut.map(Map.of("address", Map.of("city", "Busan")), Customer.class);
+
+        assertThat(flat.getAddressCity()).isEqualTo("Seoul");
+        assertThat(nested.getAddressCity()).isEqualTo("Busan");
+    }
+
+    @Test
+    public void matches_keys_regardless_of_case() {
+        var sut = new Mapper();
+
+        Customer upper = sut.map(Map.of("ADDRESS_CITY", "Seoul"), Customer.class);
+        Customer lower = sut.map(Map.of("addresscity", "Busan"), Customer.class);
+
+        assertThat(upper.getAddressCity()).isEqualTo("Seoul");
+        assertThat(lower.getAddressCity()).isEqualTo("Busan");
+    }
+
+    @Test
+    public void does_not_call_setters_for_absent_keys() {
+        var sut = new Mapper();
+
+        Preferences actual = sut.map(Map.of("theme", "dark"), Preferences.class);
+
+        assertThat(actual.getTheme()).isEqualTo("dark");
+        assertThat(actual.getLanguage()).isEqualTo("en");
+    }
+
+    @Test
+    public void calls_setters_for_keys_mapped_to_null() {
+        var sut = new Mapper();
+        var source = new HashMap<String, Object>();
+        source.put("language", null);
+
+        Preferences actual = sut.map(source, Preferences.class);
+
+        assertThat(actual.getLanguage()).isNull();
+        assertThat(actual.getTheme()).isEqualTo("light");
+    }
+
+    @Test
+    public void maps_nested_map_into_nested_object() {
+        var sut = new Mapper();
+        var source = new HashMap<String, Object>();
+        source.put("shippingAddress", Map.of("city", "Seoul", "street", "Sejong-daero"));
+
+        Customer actual = sut.map(source, Customer.class);
+
+        assertThat(actual.getShippingAddress().getCity()).isEqualTo("Seoul");
+        assertThat(actual.getShippingAddress().getStreet()).isEqualTo("Sejong-daero");
+    }
+
+    @Test
+    public void unflattens_prefixed_keys_into_nested_object() {
+        var sut = new Mapper();
+        Map<String, Object> source = Map.of("shipping_address_city", "Incheon");
+
+        Customer actual = sut.map(source, Customer.class);
+
+        assertThat(actual.getShippingAddress().getCity()).isEqualTo("Incheon");
+        assertThat(actual.getShippingAddress().getStreet()).isNull();
+    }
+
+    @Test
+    public void unflattens_pascal_case_prefixed_keys() {
+        var sut = new Mapper();
+        Map<String, Object> source = Map.of("ShippingAddressCity", "Daegu");
+
+        Customer actual = sut.map(source, Customer.class);
+
+        assertThat(actual.getShippingAddress().getCity()).isEqualTo("Daegu");
+    }
+
+    @Test
+    public void does_not_unflatten_keys_that_only_share_part_of_prefix() {
+        var sut = new Mapper();
+        Map<String, Object> source = Map.of("shipping", "express");
+
+        Customer actual = sut.map(source, Customer.class);
+
+        assertThat(actual.getShippingAddress()).isNull();
+    }
+}
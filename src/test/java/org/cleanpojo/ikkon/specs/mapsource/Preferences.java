@@ -0,0 +1,23 @@
+package org.cleanpojo.ikkon.specs.mapsource;
+
+public class Preferences {
+
+    private String language = "en";
+    private String theme = "light";
+
+    public String getLanguage() {
+        return language;
+    }
+
+    public void setLanguage(String language) {
+        this.language = language;
+    }
+
+    public String getTheme() {
+        return theme;
+    }
+
+    public void setTheme(String theme) {
+        this.theme = theme;
+    }
+}
@@ -0,0 +1,38 @@
+package org.cleanpojo.ikkon.specs.numeric;
+
+public class Measurement {
+
+    private final int count;
+    private final Integer samples;
+    private final float ratio;
+    private final long total;
+    private final double average;
+
+    public Measurement(int count, Integer samples, float ratio, long total, double average) {
+        this.count = count;
+        this.samples = samples;
+        this.ratio = ratio;
+        this.total = total;
+        this.average = average;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public Integer getSamples() {
+        return samples;
+    }
+
+    public float getRatio() {
+        return ratio;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public double getAverage() {
+        return average;
+    }
+}
@@ -0,0 +1,38 @@
+package org.cleanpojo.ikkon.specs.numeric;
+
+public class MeasurementRow {
+
+    private final Long count;
+    private final int samples;
+    private final double ratio;
+    private final int total;
+    private final short average;
+
+    public MeasurementRow(Long count, int samples, double ratio, int total, short average) {
+        this.count = count;
+        this.samples = samples;
+        this.ratio = ratio;
+        this.total = total;
+        this.average = average;
+    }
+
+    public Long getCount() {
+        return count;
+    }
+
+    public int getSamples() {
+        return samples;
+    }
+
+    public double getRatio() {
+        return ratio;
+    }
+
+    public int getTotal() {
+        return total;
+    }
+
+    public short getAverage() {
+        return average;
+    }
+}
@@ -0,0 +1,76 @@
+package org.cleanpojo.ikkon.specs.numeric;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.ThrowableAssert.catchThrowable;
+
+import org.cleanpojo.ikkon.Mapper;
+import org.cleanpojo.ikkon.MapperOptions;
+import org.junit.Test;
+
+public class NumericSpecs {
+
+    @Test
+    public void widens_primitive_values() {
+        var sut = new Mapper();
+        var source = new Measurement(7, 3, 0.5f, 100, 12.75);
+
+        MeasurementRow actual = sut.map(source, MeasurementRow.class);
+
+        assertThat(actual.getCount()).isEqualTo(7L);
+        assertThat(actual.getRatio()).isEqualTo(0.5);
+    }
+
+    @Test
+    public void unboxes_values_and_defaults_null_to_zero() {
+        var sut = new Mapper();
+
+        MeasurementRow boxed = sut.map(new Measurement(1, 3, 0, 0, 0), MeasurementRow.class);
+        MeasurementRow missing = sut.map(new Measurement(1, null, 0, 0, 0), MeasurementRow.class);
+
+        assertThat(boxed.getSamples()).isEqualTo(3);
+        assertThat(missing.getSamples()).isZero();
+    }
+
+    @Test
+    public void narrows_values_in_range() {
+        var sut = new Mapper();
+        var source = new Measurement(1, 1, 0, 40_000L, 12.75);
+
+        MeasurementRow actual = sut.map(source, MeasurementRow.class);
+
+        assertThat(actual.getTotal()).isEqualTo(40_000);
+        assertThat(actual.getAverage()).isEqualTo((short) 12);
+    }
+
+    @Test
+    public void fails_on_narrowing_overflow() {
+        var sut = new Mapper();
+        var source = new Measurement(1, 1, 0, Integer.MAX_VALUE + 1L, 0);
+
+        Throwable thrown = catchThrowable(() -> sut.map(source, MeasurementRow.class));
+
+        assertThat(thrown)
+            .isInstanceOf(ArithmeticException.class)
+            .hasMessageContaining("2147483648");
+    }
+
+    @Test
+    public void fails_on_floating_narrowing_overflow() {
+        var sut = new Mapper();
+        var source = new Measurement(1, 1, 0, 0, 1e9);
+
+        Throwable thrown = catchThrowable(() -> sut.map(source, MeasurementRow.class));
+
+        assertThat(thrown).isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    public void truncates_overflow_when_checks_are_disabled() {
+        var sut = new Mapper(new MapperOptions().withCheckedNarrowing(false));
+        var source = new Measurement(1, 1, 0, Integer.MAX_VALUE + 1L, 0);
+
+        MeasurementRow actual = sut.map(source, MeasurementRow.class);
+
+        assertThat(actual.getTotal()).isEqualTo(Integer.MIN_VALUE);
+    }
+}
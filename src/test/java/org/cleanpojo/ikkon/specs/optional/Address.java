@@ -0,0 +1,14 @@
+package org.cleanpojo.ikkon.specs.optional;
+
+public class Address {
+
+    private final String city;
+
+    public Address(String city) {
+        this.city = city;
+    }
+
+    public String getCity() {
+        return city;
+    }
+}
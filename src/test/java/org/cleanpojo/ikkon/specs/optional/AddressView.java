@@ -0,0 +1,14 @@
+package org.cleanpojo.ikkon.specs.optional;
+
+public class AddressView {
+
+    private final String city;
+
+    public AddressView(String city) {
+        this.city = city;
+    }
+
+    public String getCity() {
+        return city;
+    }
+}
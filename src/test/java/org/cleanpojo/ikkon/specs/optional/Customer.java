@@ -0,0 +1,34 @@
+package org.cleanpojo.ikkon.specs.optional;
+
+import java.util.Optional;
+
+public class Customer {
+
+    private final String nickname;
+    private final Address address;
+    private final String email;
+    private final Integer age;
+
+    public Customer(String nickname, Address address, String email, Integer age) {
+        this.nickname = nickname;
+        this.address = address;
+        this.email = email;
+        this.age = age;
+    }
+
+    public Optional<String> getNickname() {
+        return Optional.ofNullable(nickname);
+    }
+
+    public Optional<Address> getAddress() {
+        return Optional.ofNullable(address);
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public Optional<Integer> getAge() {
+        return Optional.ofNullable(age);
+    }
+}
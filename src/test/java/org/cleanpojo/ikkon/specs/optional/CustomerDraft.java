@@ -0,0 +1,22 @@
+package org.cleanpojo.ikkon.specs.optional;
+
+import java.util.Optional;
+
+public class CustomerDraft {
+
+    private final Optional<String> nickname;
+    private final Optional<AddressView> address;
+
+    public CustomerDraft(Optional<String> nickname, Optional<AddressView> address) {
+        this.nickname = nickname;
+        this.address = address;
+    }
+
+    public Optional<String> getNickname() {
+        return nickname;
+    }
+
+    public Optional<AddressView> getAddress() {
+        return address;
+    }
+}
@@ -0,0 +1,34 @@
+package org.cleanpojo.ikkon.specs.optional;
+
+import java.util.Optional;
+
+public class CustomerView {
+
+    private final String nickname;
+    private final AddressView address;
+    private final Optional<String> email;
+    private final long age;
+
+    public CustomerView(String nickname, AddressView address, Optional<String> email, long age) {
+        this.nickname = nickname;
+        this.address = address;
+        this.email = email;
+        this.age = age;
+    }
+
+    public String getNickname() {
+        return nickname;
+    }
+
+    public AddressView getAddress() {
+        return address;
+    }
+
+    public Optional<String> getEmail() {
+        return email;
+    }
+
+    public long getAge() {
+        return age;
+    }
+}
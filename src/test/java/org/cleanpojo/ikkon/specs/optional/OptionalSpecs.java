@@ -0,0 +1,77 @@
+package org.cleanpojo.ikkon.specs.optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Optional;
+
+import org.cleanpojo.ikkon.Mapper;
+import org.junit.Test;
+
+public class OptionalSpecs {
+
+    @Test
+    public void unwraps_optional_source_value() {
+        var sut = new Mapper();
+        var source = new Customer("Al", new Address("Seoul"), "al@example.com", 30);
+
+        CustomerView actual = sut.map(source, CustomerView.class);
+
+        assertThat(actual.getNickname()).isEqualTo("Al");
+        assertThat(actual.getAge()).isEqualTo(30L);
+    }
+
+    @Test
+    public void unwraps_empty_optional_to_null_or_default_value() {
+        var sut = new Mapper();
+        var source = new Customer(null, null, null, null);
+
+        CustomerView actual = sut.map(source, CustomerView.class);
+
+        assertThat(actual.getNickname()).isNull();
+        assertThat(actual.getAddress()).isNull();
+        assertThat(actual.getAge()).isZero();
+    }
+
+    @Test
+    public void maps_unwrapped_value_with_nested_plan() {
+        var sut = new Mapper();
+        var source = new Customer("Al", new Address("Seoul"), null, 30);
+
+        CustomerView actual = sut.map(source, CustomerView.class);
+
+        assertThat(actual.getAddress().getCity()).isEqualTo("Seoul");
+    }
+
+    @Test
+    public void wraps_value_into_optional_destination() {
+        var sut = new Mapper();
+
+        CustomerView present = sut.map(new Customer(null, null, "al@example.com", 1), CustomerView.class);
+        CustomerView missing = sut.map(new Customer(null, null, null, 1), CustomerView.class);
+
+        assertThat(present.getEmail()).contains("al@example.com");
+        assertThat(missing.getEmail()).isEmpty();
+    }
+
+    @Test
+    public void maps_optional_to_optional_with_nested_plan() {
+        var sut = new Mapper();
+        var source = new Customer("Al", new Address("Busan"), null, 1);
+
+        CustomerDraft actual = sut.map(source, CustomerDraft.class);
+
+        assertThat(actual.getAddress()).isPresent();
+        assertThat(actual.getAddress().get().getCity()).isEqualTo("Busan");
+    }
+
+    @Test
+    public void keeps_optional_of_immutable_value() {
+        var sut = new Mapper();
+        var draft = new CustomerDraft(Optional.of("Al"), Optional.empty());
+
+        CustomerDraft actual = sut.map(draft, CustomerDraft.class);
+
+        assertThat(actual.getNickname()).isSameAs(draft.getNickname());
+        assertThat(actual.getAddress()).isSameAs(draft.getAddress());
+    }
+}
@@ -0,0 +1,40 @@
+package org.cleanpojo.ikkon.specs.parallel;
+
+import java.util.List;
+import java.util.UUID;
+
+public class Aggregate {
+
+    private final UUID id;
+    private final List<String> tags;
+    private final Address shippingAddress;
+    private final Address billingAddress;
+
+    public Aggregate(
+        final UUID id,
+        final List<String> tags,
+        final Address shippingAddress,
+        final Address billingAddress) {
+
+        this.id = id;
+        this.tags = tags;
+        this.shippingAddress = shippingAddress;
+        this.billingAddress = billingAddress;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+    public Address getShippingAddress() {
+        return shippingAddress;
+    }
+
+    public Address getBillingAddress() {
+        return billingAddress;
+    }
+}
@@ -0,0 +1,154 @@
+package org.cleanpojo.ikkon.specs.parallel;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.ThrowableAssert.catchThrowable;
+import static org.cleanpojo.ikkon.specs.Generator.createString;
+import static org.cleanpojo.ikkon.specs.Generator.createUUID;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+
+import org.cleanpojo.ikkon.Mapper;
+import org.cleanpojo.ikkon.MapperOptions;
+import org.junit.Test;
+
+public class ParallelSpecs {
+
+    private static List<String> createTags(int count) {
+        var tags = new ArrayList<String>(count);
+        for (int i = 0; i < count; i++) {
+            tags.add(createString());
+        }
+
+        return tags;
+    }
+
+    private static List<ThreadRecordingAddress> createStops(int count) {
+        var stops = new ArrayList<ThreadRecordingAddress>(count);
+        for (int i = 0; i < count; i++) {
+            stops.add(new ThreadRecordingAddress(createString(), createString()));
+        }
+
+        return stops;
+    }
+
+    private static Set<ForkJoinPool> readingPools(List<ThreadRecordingAddress> stops) {
+        var pools = new HashSet<ForkJoinPool>();
+        for (ThreadRecordingAddress stop : stops) {
+            Thread thread = stop.readingThread();
+            pools.add(thread instanceof ForkJoinWorkerThread ? ((ForkJoinWorkerThread) thread).getPool() : null);
+        }
+
+        return pools;
+    }
+
+    @Test
+    public void correctly_maps_large_aggregate_above_parallel_threshold() {
+        var source = new Aggregate(
+            createUUID(),
+            createTags(50_000),
+            new Address(createString(), createString()),
+            new Address(createString(), createString()));
+        var sut = new Mapper(new MapperOptions().withParallelThreshold(1_000));
+
+        var actual = sut.map(source, Aggregate.class);
+
+        assertThat(actual.getId()).isEqualTo(source.getId());
+        assertThat(actual.getTags()).isNotSameAs(source.getTags());
+        assertThat(actual.getTags()).isEqualTo(source.getTags());
+        assertThat(actual.getShippingAddress())
+            .isNotSameAs(source.getShippingAddress())
+            .usingRecursiveComparison()
+            .isEqualTo(source.getShippingAddress());
+        assertThat(actual.getBillingAddress())
+            .isNotSameAs(source.getBillingAddress())
+            .usingRecursiveComparison()
+            .isEqualTo(source.getBillingAddress());
+    }
+
+    @Test
+    public void maps_subtrees_on_fork_join_pool_above_parallel_threshold() {
+        var source = new RecordingAggregate(
+            createUUID(),
+            createTags(100),
+            new ThreadRecordingAddress(createString(), createString()),
+            new ThreadRecordingAddress(createString(), createString()));
+        var pool = new ForkJoinPool(2);
+        var sut = new Mapper(new MapperOptions()
+            .withParallelThreshold(10)
+            .withForkJoinPool(pool));
+
+        try {
+            sut.map(source, RecordingAggregate.class);
+
+            assertThat(source.getShippingAddress().readingThread())
+                .isInstanceOf(ForkJoinWorkerThread.class);
+            assertThat(((ForkJoinWorkerThread)source.getShippingAddress().readingThread()).getPool())
+                .isSameAs(pool);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void maps_large_collection_elements_on_fork_join_pool_above_parallel_threshold() {
+        var source = new RecordingRoute(createStops(1_000));
+        var pool = new ForkJoinPool(2);
+        var sut = new Mapper(new MapperOptions()
+            .withParallelThreshold(10)
+            .withForkJoinPool(pool));
+
+        try {
+            RecordingRoute actual = sut.map(source, RecordingRoute.class);
+
+            assertThat(actual.getStops()).hasSize(1_000);
+            assertThat(readingPools(source.getStops())).containsOnly(pool);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void maps_on_configured_pool_when_called_from_another_fork_join_pool() throws Exception {
+        var source = new RecordingRoute(createStops(1_000));
+        var pool = new ForkJoinPool(2);
+        var callerPool = new ForkJoinPool(2);
+        var sut = new Mapper(new MapperOptions()
+            .withParallelThreshold(10)
+            .withForkJoinPool(pool));
+
+        try {
+            callerPool.submit(() -> sut.map(source, RecordingRoute.class)).get();
+
+            assertThat(readingPools(source.getStops())).containsOnly(pool);
+        } finally {
+            callerPool.shutdown();
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    public void maps_small_aggregate_sequentially() {
+        var source = new RecordingAggregate(
+            createUUID(),
+            createTags(10),
+            new ThreadRecordingAddress(createString(), createString()),
+            new ThreadRecordingAddress(createString(), createString()));
+        var sut = new Mapper(new MapperOptions().withParallelThreshold(1_000));
+
+        sut.map(source, RecordingAggregate.class);
+
+        assertThat(source.getShippingAddress().readingThread()).isSameAs(Thread.currentThread());
+    }
+
+    @Test
+    public void fails_if_parallel_threshold_is_not_positive() {
+        Throwable thrown = catchThrowable(() -> new MapperOptions().withParallelThreshold(0));
+
+        assertThat(thrown).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,40 @@
+package org.cleanpojo.ikkon.specs.parallel;
+
+import java.util.List;
+import java.util.UUID;
+
+public class RecordingAggregate {
+
+    private final UUID id;
+    private final List<String> tags;
+    private final ThreadRecordingAddress shippingAddress;
+    private final ThreadRecordingAddress billingAddress;
+
+    public RecordingAggregate(
+        final UUID id,
+        final List<String> tags,
+        final ThreadRecordingAddress shippingAddress,
+        final ThreadRecordingAddress billingAddress) {
+
+        this.id = id;
+        this.tags = tags;
+        this.shippingAddress = shippingAddress;
+        this.billingAddress = billingAddress;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+    public ThreadRecordingAddress getShippingAddress() {
+        return shippingAddress;
+    }
+
+    public ThreadRecordingAddress getBillingAddress() {
+        return billingAddress;
+    }
+}
@@ -0,0 +1,16 @@
+package org.cleanpojo.ikkon.specs.parallel;
+
+import java.util.List;
+
+public class RecordingRoute {
+
+    private final List<ThreadRecordingAddress> stops;
+
+    public RecordingRoute(final List<ThreadRecordingAddress> stops) {
+        this.stops = stops;
+    }
+
+    public List<ThreadRecordingAddress> getStops() {
+        return stops;
+    }
+}
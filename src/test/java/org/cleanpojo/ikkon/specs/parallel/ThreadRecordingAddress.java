@@ -0,0 +1,26 @@
+package org.cleanpojo.ikkon.specs.parallel;
+
+public class ThreadRecordingAddress {
+
+    private final String city;
+    private final String zipCode;
+    private Thread readingThread;
+
+    public ThreadRecordingAddress(final String city, final String zipCode) {
+        this.city = city;
+        this.zipCode = zipCode;
+    }
+
+    public String getCity() {
+        readingThread = Thread.currentThread();
+        return city;
+    }
+
+    public String getZipCode() {
+        return zipCode;
+    }
+
+    public Thread readingThread() {
+        return readingThread;
+    }
+}
@@ -0,0 +1,20 @@
+package org.cleanpojo.ikkon.specs.patch;
+
+public class Address {
+
+    private final String city;
+    private final String street;
+
+    public Address(final String city, final String street) {
+        this.city = city;
+        this.street = street;
+    }
+
+    public String getCity() {
+        return city;
+    }
+
+    public String getStreet() {
+        return street;
+    }
+}
@@ -0,0 +1,28 @@
+package org.cleanpojo.ikkon.specs.patch;
+
+import java.util.List;
+
+public class Customer {
+
+    private final String name;
+    private final Address address;
+    private final List<Address> previousAddresses;
+
+    public Customer(final String name, final Address address, final List<Address> previousAddresses) {
+        this.name = name;
+        this.address = address;
+        this.previousAddresses = previousAddresses;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Address getAddress() {
+        return address;
+    }
+
+    public List<Address> getPreviousAddresses() {
+        return previousAddresses;
+    }
+}
@@ -0,0 +1,28 @@
+package org.cleanpojo.ikkon.specs.patch;
+
+import java.util.UUID;
+
+public class Entity {
+
+    private final UUID id;
+    private final String name;
+    private final String email;
+
+    public Entity(final UUID id, final String name, final String email) {
+        this.id = id;
+        this.name = name;
+        this.email = email;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+}
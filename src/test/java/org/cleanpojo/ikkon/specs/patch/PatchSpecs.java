@@ -0,0 +1,165 @@
+package org.cleanpojo.ikkon.specs.patch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.ThrowableAssert.catchThrowable;
+import static org.cleanpojo.ikkon.specs.Generator.create;
+import static org.cleanpojo.ikkon.specs.Generator.createString;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.cleanpojo.ikkon.Mapper;
+import org.junit.Test;
+
+public class PatchSpecs {
+
+    private static TrackedEntity createTarget(Mapper mapper, Entity source) {
+        var target = mapper.map(source, new TrackedEntity());
+        target.writes().clear();
+        return target;
+    }
+
+    private static Customer createCustomer() {
+        return new Customer(
+            createString(),
+            new Address(createString(), createString()),
+            List.of(new Address(createString(), createString())));
+    }
+
+    private static TrackedCustomer createTarget(Mapper mapper, Customer source) {
+        var target = mapper.map(source, new TrackedCustomer());
+        target.writes().clear();
+        target.getAddress().writes().clear();
+        return target;
+    }
+
+    @Test
+    public void does_not_write_unchanged_properties() {
+        var source = create(Entity.class);
+        var sut = new Mapper();
+        var target = createTarget(sut, source);
+
+        var actual = sut.patch(source, target);
+
+        assertThat(actual.isChanged()).isFalse();
+        assertThat(actual.getChangedProperties()).isEmpty();
+        assertThat(target.writes()).isEmpty();
+    }
+
+    @Test
+    public void writes_and_reports_only_changed_properties() {
+        var original = create(Entity.class);
+        var sut = new Mapper();
+        var target = createTarget(sut, original);
+        var source = new Entity(original.getId(), createString(), original.getEmail());
+
+        var actual = sut.patch(source, target);
+
+        assertThat(actual.isChanged()).isTrue();
+        assertThat(actual.getChangedProperties()).containsExactly("name");
+        assertThat(target.writes()).containsExactly("name");
+        assertThat(target.getName()).isEqualTo(source.getName());
+    }
+
+    @Test
+    public void skips_null_source_values_if_requested() {
+        var original = create(Entity.class);
+        var sut = new Mapper();
+        var target = createTarget(sut, original);
+        var source = new Entity(original.getId(), null, createString());
+
+        var actual = sut.patch(source, target, true);
+
+        assertThat(actual.getChangedProperties()).containsExactly("email");
+        assertThat(target.getName()).isEqualTo(original.getName());
+    }
+
+    @Test
+    public void writes_null_source_values_by_default() {
+        var original = create(Entity.class);
+        var sut = new Mapper();
+        var target = createTarget(sut, original);
+        var source = new Entity(original.getId(), null, original.getEmail());
+
+        var actual = sut.patch(source, target);
+
+        assertThat(actual.getChangedProperties()).containsExactly("name");
+        assertThat(target.getName()).isNull();
+    }
+
+    @Test
+    public void does_not_report_nested_properties_equal_by_shape() {
+        var source = createCustomer();
+        var sut = new Mapper();
+        var target = createTarget(sut, source);
+
+        var actual = sut.patch(source, target);
+
+        assertThat(actual.getChangedProperties()).isEmpty();
+        assertThat(target.writes()).isEmpty();
+        assertThat(target.getAddress().writes()).isEmpty();
+    }
+
+    @Test
+    public void patches_changed_nested_properties_into_existing_object() {
+        var original = createCustomer();
+        var sut = new Mapper();
+        var target = createTarget(sut, original);
+        TrackedAddress address = target.getAddress();
+        var source = new Customer(
+            original.getName(),
+            new Address(createString(), original.getAddress().getStreet()),
+            original.getPreviousAddresses());
+
+        var actual = sut.patch(source, target);
+
+        assertThat(actual.getChangedProperties()).containsExactly("address.city");
+        assertThat(target.getAddress()).isSameAs(address);
+        assertThat(address.writes()).containsExactly("city");
+        assertThat(address.getCity()).isEqualTo(source.getAddress().getCity());
+    }
+
+    @Test
+    public void replaces_collections_whose_elements_differ() {
+        var original = createCustomer();
+        var sut = new Mapper();
+        var target = createTarget(sut, original);
+        var source = new Customer(
+            original.getName(),
+            original.getAddress(),
+            List.of(new Address(createString(), original.getPreviousAddresses().get(0).getStreet())));
+
+        var actual = sut.patch(source, target);
+
+        assertThat(actual.getChangedProperties()).containsExactly("previousAddresses");
+        assertThat(target.getPreviousAddresses().get(0).getCity())
+            .isEqualTo(source.getPreviousAddresses().get(0).getCity());
+    }
+
+    @Test
+    public void replaces_collections_of_different_length() {
+        var original = createCustomer();
+        var sut = new Mapper();
+        var target = createTarget(sut, original);
+        var previousAddresses = new ArrayList<>(original.getPreviousAddresses());
+        previousAddresses.add(new Address(createString(), createString()));
+        var source = new Customer(original.getName(), original.getAddress(), previousAddresses);
+
+        var actual = sut.patch(source, target);
+
+        assertThat(actual.getChangedProperties()).containsExactly("previousAddresses");
+        assertThat(target.getPreviousAddresses()).hasSize(2);
+    }
+
+    @Test
+    public void fails_fast_when_target_is_null() {
+        var source = create(Entity.class);
+        var sut = new Mapper();
+
+        Throwable thrown = catchThrowable(() -> sut.patch(source, null));
+
+        assertThat(thrown)
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining("target cannot be null");
+    }
+}
@@ -0,0 +1,33 @@
+package org.cleanpojo.ikkon.specs.patch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class TrackedAddress {
+
+    private final List<String> writes = new ArrayList<>();
+    private String city;
+    private String street;
+
+    public String getCity() {
+        return city;
+    }
+
+    public void setCity(String city) {
+        writes.add("city");
+        this.city = city;
+    }
+
+    public String getStreet() {
+        return street;
+    }
+
+    public void setStreet(String street) {
+        writes.add("street");
+        this.street = street;
+    }
+
+    public List<String> writes() {
+        return writes;
+    }
+}
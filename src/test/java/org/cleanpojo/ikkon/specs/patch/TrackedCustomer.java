@@ -0,0 +1,43 @@
+package org.cleanpojo.ikkon.specs.patch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+public class TrackedCustomer {
+
+    private final List<String> writes = new ArrayList<>();
+    private String name;
+    private TrackedAddress address;
+    private List<TrackedAddress> previousAddresses;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        writes.add("name");
+        this.name = name;
+    }
+
+    public TrackedAddress getAddress() {
+        return address;
+    }
+
+    public void setAddress(TrackedAddress address) {
+        writes.add("address");
+        this.address = address;
+    }
+
+    public List<TrackedAddress> getPreviousAddresses() {
+        return previousAddresses;
+    }
+
+    public void setPreviousAddresses(List<TrackedAddress> previousAddresses) {
+        writes.add("previousAddresses");
+        this.previousAddresses = previousAddresses;
+    }
+
+    public List<String> writes() {
+        return writes;
+    }
+}
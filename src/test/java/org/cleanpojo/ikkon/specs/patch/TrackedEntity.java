@@ -0,0 +1,44 @@
+package org.cleanpojo.ikkon.specs.patch;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+public class TrackedEntity {
+
+    private final List<String> writes = new ArrayList<>();
+    private UUID id;
+    private String name;
+    private String email;
+
+    public UUID getId() {
+        return id;
+    }
+
+    public void setId(UUID id) {
+        writes.add("id");
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        writes.add("name");
+        this.name = name;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public void setEmail(String email) {
+        writes.add("email");
+        this.email = email;
+    }
+
+    public List<String> writes() {
+        return writes;
+    }
+}
@@ -0,0 +1,75 @@
+package org.cleanpojo.ikkon.specs.plancache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.cleanpojo.ikkon.specs.Generator.create;
+
+import java.util.ArrayList;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.cleanpojo.ikkon.Mapper;
+import org.junit.Test;
+
+public class PlanCacheSpecs {
+
+    private static final int THREADS = 64;
+    private static final int ITERATIONS = 500;
+
+    @Test
+    public void compiles_plan_once_and_reuses_it() {
+        var sut = new Mapper();
+
+        sut.map(create(Order.class), Order.class);
+        sut.map(create(Order.class), Order.class);
+
+        var statistics = sut.getPlanCacheStatistics();
+        assertThat(statistics.getMisses()).isEqualTo(2);
+        assertThat(statistics.getHits()).isEqualTo(1);
+    }
+
+    @Test
+    public void compiles_plan_once_under_concurrent_first_access() throws Exception {
+        var sut = new Mapper();
+        var barrier = new CyclicBarrier(THREADS);
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        var tasks = new ArrayList<Callable<Boolean>>();
+        for (int i = 0; i < THREADS; i++) {
+            tasks.add(() -> {
+                barrier.await();
+                return mapRepeatedly(sut);
+            });
+        }
+
+        var results = new ArrayList<Boolean>();
+        try {
+            for (Future<Boolean> future : executor.invokeAll(tasks)) {
+                results.add(future.get());
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(results).containsOnly(true);
+        var statistics = sut.getPlanCacheStatistics();
+        assertThat(statistics.getMisses()).isEqualTo(2);
+        assertThat(statistics.getHits() + statistics.getMisses() + statistics.getWaits())
+            .isBetween(THREADS * ITERATIONS + 1L, THREADS * ITERATIONS + (long)THREADS);
+    }
+
+    private static boolean mapRepeatedly(Mapper mapper) {
+        for (int i = 0; i < ITERATIONS; i++) {
+            var source = create(Order.class);
+            var actual = mapper.map(source, Order.class);
+            if (actual.getId().equals(source.getId()) == false
+                || actual.getShippingAddress().getCity().equals(
+                    source.getShippingAddress().getCity()) == false) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
@@ -0,0 +1,17 @@
+package org.cleanpojo.ikkon.specs.polymorphic;
+
+import java.util.UUID;
+
+public class BankPayment extends Payment {
+
+    private final String accountNumber;
+
+    public BankPayment(final UUID id, final String accountNumber) {
+        super(id);
+        this.accountNumber = accountNumber;
+    }
+
+    public String getAccountNumber() {
+        return accountNumber;
+    }
+}
@@ -0,0 +1,17 @@
+package org.cleanpojo.ikkon.specs.polymorphic;
+
+import java.util.UUID;
+
+public class CardPayment extends Payment {
+
+    private final String cardNumber;
+
+    public CardPayment(final UUID id, final String cardNumber) {
+        super(id);
+        this.cardNumber = cardNumber;
+    }
+
+    public String getCardNumber() {
+        return cardNumber;
+    }
+}
@@ -0,0 +1,22 @@
+package org.cleanpojo.ikkon.specs.polymorphic;
+
+import java.util.UUID;
+
+public class Invoice {
+
+    private final UUID id;
+    private final Payment payment;
+
+    public Invoice(final UUID id, final Payment payment) {
+        this.id = id;
+        this.payment = payment;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public Payment getPayment() {
+        return payment;
+    }
+}
@@ -0,0 +1,22 @@
+package org.cleanpojo.ikkon.specs.polymorphic;
+
+import java.util.UUID;
+
+public class InvoiceView {
+
+    private final UUID id;
+    private final PaymentView payment;
+
+    public InvoiceView(final UUID id, final PaymentView payment) {
+        this.id = id;
+        this.payment = payment;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public PaymentView getPayment() {
+        return payment;
+    }
+}
@@ -0,0 +1,16 @@
+package org.cleanpojo.ikkon.specs.polymorphic;
+
+import java.util.UUID;
+
+public abstract class Payment {
+
+    private final UUID id;
+
+    protected Payment(final UUID id) {
+        this.id = id;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+}
@@ -0,0 +1,56 @@
+package org.cleanpojo.ikkon.specs.polymorphic;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.cleanpojo.ikkon.specs.Generator.create;
+import static org.cleanpojo.ikkon.specs.Generator.createUUID;
+
+import org.cleanpojo.ikkon.Mapper;
+import org.junit.Test;
+
+public class PolymorphicSpecs {
+
+    @Test
+    public void maps_nested_object_by_its_runtime_class() {
+        var card = new Invoice(createUUID(), create(CardPayment.class));
+        var bank = new Invoice(createUUID(), create(BankPayment.class));
+        var sut = new Mapper();
+
+        InvoiceView actualCard = sut.map(card, InvoiceView.class);
+        InvoiceView actualBank = sut.map(bank, InvoiceView.class);
+
+        assertThat(actualCard.getPayment().getId()).isEqualTo(card.getPayment().getId());
+        assertThat(actualCard.getPayment().getCardNumber())
+            .isEqualTo(((CardPayment)card.getPayment()).getCardNumber());
+        assertThat(actualCard.getPayment().getAccountNumber()).isNull();
+        assertThat(actualBank.getPayment().getId()).isEqualTo(bank.getPayment().getId());
+        assertThat(actualBank.getPayment().getAccountNumber())
+            .isEqualTo(((BankPayment)bank.getPayment()).getAccountNumber());
+        assertThat(actualBank.getPayment().getCardNumber()).isNull();
+    }
+
+    @Test
+    public void resolves_plans_of_nested_runtime_classes_from_inline_cache() {
+        var sut = new Mapper();
+
+        for (int i = 0; i < 3; i++) {
+            sut.map(new Invoice(createUUID(), create(CardPayment.class)), InvoiceView.class);
+            sut.map(new Invoice(createUUID(), create(BankPayment.class)), InvoiceView.class);
+        }
+
+        var statistics = sut.getPlanCacheStatistics();
+        assertThat(statistics.getMisses()).isEqualTo(3);
+        assertThat(statistics.getHits()).isEqualTo(5);
+    }
+
+    @Test
+    public void recompiles_inline_cached_plans_of_invalidated_types() {
+        var sut = new Mapper();
+        sut.map(new Invoice(createUUID(), create(CardPayment.class)), InvoiceView.class);
+        long misses = sut.getPlanCacheStatistics().getMisses();
+
+        sut.invalidate(CardPayment.class);
+        sut.map(new Invoice(createUUID(), create(CardPayment.class)), InvoiceView.class);
+
+        assertThat(sut.getPlanCacheStatistics().getMisses()).isEqualTo(misses + 1);
+    }
+}
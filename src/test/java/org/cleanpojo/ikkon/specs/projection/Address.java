@@ -0,0 +1,20 @@
+package org.cleanpojo.ikkon.specs.projection;
+
+public class Address {
+
+    private final String city;
+    private final String zipCode;
+
+    public Address(final String city, final String zipCode) {
+        this.city = city;
+        this.zipCode = zipCode;
+    }
+
+    public String getCity() {
+        return city;
+    }
+
+    public String getZipCode() {
+        return zipCode;
+    }
+}
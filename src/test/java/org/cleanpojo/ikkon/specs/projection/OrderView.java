@@ -0,0 +1,28 @@
+package org.cleanpojo.ikkon.specs.projection;
+
+import java.util.UUID;
+
+public class OrderView {
+
+    private final UUID id;
+    private final String name;
+    private final Address shippingAddress;
+
+    public OrderView(final UUID id, final String name, final Address shippingAddress) {
+        this.id = id;
+        this.name = name;
+        this.shippingAddress = shippingAddress;
+    }
+
+    public UUID getId() {
+        return id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public Address getShippingAddress() {
+        return shippingAddress;
+    }
+}
@@ -0,0 +1,103 @@
+package org.cleanpojo.ikkon.specs.projection;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.cleanpojo.ikkon.specs.Generator.createString;
+import static org.cleanpojo.ikkon.specs.Generator.createUUID;
+
+import org.cleanpojo.ikkon.FieldMask;
+import org.cleanpojo.ikkon.Mapper;
+import org.cleanpojo.ikkon.MapperOptions;
+import org.junit.Test;
+
+public class ProjectionSpecs {
+
+    private static Order createOrder() {
+        return new Order(
+            createUUID(),
+            createString(),
+            new Address(createString(), createString()));
+    }
+
+    @Test
+    public void maps_only_requested_constructor_arguments() {
+        var source = createOrder();
+        var sut = new Mapper();
+
+        var actual = sut.map(source, OrderView.class, FieldMask.of("id"));
+
+        assertThat(actual.getId()).isEqualTo(source.getId());
+        assertThat(actual.getName()).isNull();
+        assertThat(actual.getShippingAddress()).isNull();
+    }
+
+    @Test
+    public void does_not_read_unrequested_properties() {
+        var source = createOrder();
+        var sut = new Mapper();
+
+        sut.map(source, OrderView.class, FieldMask.of("name"));
+
+        assertThat(source.reads()).containsExactly("name");
+    }
+
+    @Test
+    public void maps_only_requested_setter_properties() {
+        var source = createOrder();
+        var sut = new Mapper();
+
+        var actual = sut.map(source, MutableOrderView.class, FieldMask.of("name"));
+
+        assertThat(actual.getId()).isNull();
+        assertThat(actual.getName()).isEqualTo(source.getName());
+    }
+
+    @Test
+    public void applies_nested_paths_to_nested_objects() {
+        var source = createOrder();
+        var sut = new Mapper();
+
+        var actual = sut.map(source, OrderView.class, FieldMask.of("shippingAddress.city"));
+
+        assertThat(actual.getId()).isNull();
+        assertThat(actual.getShippingAddress().getCity())
+            .isEqualTo(source.getShippingAddress().getCity());
+        assertThat(actual.getShippingAddress().getZipCode()).isNull();
+    }
+
+    @Test
+    public void maps_whole_nested_object_if_its_path_is_requested() {
+        var source = createOrder();
+        var sut = new Mapper();
+
+        var actual = sut.map(
+            source,
+            OrderView.class,
+            FieldMask.of("shippingAddress", "shippingAddress.city"));
+
+        assertThat(actual.getShippingAddress().getZipCode())
+            .isEqualTo(source.getShippingAddress().getZipCode());
+    }
+
+    @Test
+    public void treats_masks_with_same_paths_as_equal() {
+        var mask = FieldMask.of("id", "shippingAddress.city");
+
+        var other = FieldMask.of("shippingAddress.city", "id");
+
+        assertThat(mask).isEqualTo(other).hasSameHashCodeAs(other);
+    }
+
+    @Test
+    public void counts_projection_plans_against_plan_cache_size() {
+        var sut = new Mapper(new MapperOptions().withPlanCacheSize(2));
+        Order source = createOrder();
+
+        for (int i = 0; i < 10; i++) {
+            sut.map(source, OrderView.class, FieldMask.of("id", "unknown" + i));
+        }
+
+        var statistics = sut.getPlanCacheStatistics();
+        assertThat(statistics.getMisses()).isEqualTo(10);
+        assertThat(statistics.getEvictions()).isEqualTo(8);
+    }
+}
@@ -0,0 +1,23 @@
+package org.cleanpojo.ikkon.specs.record;
+
+public class CustomerView {
+
+    private String name;
+    private String addressCity;
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public String getAddressCity() {
+        return addressCity;
+    }
+
+    public void setAddressCity(String addressCity) {
+        this.addressCity = addressCity;
+    }
+}
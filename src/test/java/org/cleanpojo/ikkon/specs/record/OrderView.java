@@ -0,0 +1,20 @@
+package org.cleanpojo.ikkon.specs.record;
+
+public class OrderView {
+
+    private final String id;
+    private final int quantity;
+
+    public OrderView(String id, int quantity) {
+        this.id = id;
+        this.quantity = quantity;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+}
@@ -0,0 +1,35 @@
+package org.cleanpojo.ikkon.specs.record;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Map;
+
+import javax.tools.ToolProvider;
+
+public final class RecordCompiler {
+
+    public static final String PACKAGE = "org.cleanpojo.ikkon.specs.record.compiled";
+
+    public static ClassLoader compile(Path directory, Map<String, String> sources) throws Exception {
+        var arguments = new ArrayList<String>();
+        arguments.add("-d");
+        arguments.add(directory.toString());
+        for (Map.Entry<String, String> source : sources.entrySet()) {
+            Path file = directory.resolve(source.getKey() + ".java");
+            Files.writeString(file, "package " + PACKAGE + ";\n" + source.getValue());
+            arguments.add(file.toString());
+        }
+
+        int exitCode = ToolProvider.getSystemJavaCompiler().run(null, null, null, arguments.toArray(new String[0]));
+        if (exitCode != 0) {
+            throw new IllegalStateException("Failed to compile record fixtures.");
+        }
+
+        return new URLClassLoader(
+            new URL[] { directory.toUri().toURL() },
+            RecordCompiler.class.getClassLoader());
+    }
+}
@@ -0,0 +1,105 @@
+package org.cleanpojo.ikkon.specs.record;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.cleanpojo.ikkon.specs.record.RecordCompiler.PACKAGE;
+import static org.junit.Assume.assumeTrue;
+
+import java.lang.reflect.Constructor;
+import java.util.Map;
+
+import org.cleanpojo.ikkon.Mapper;
+import org.junit.BeforeClass;
+import org.junit.ClassRule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class RecordSpecs {
+
+    @ClassRule
+    public static final TemporaryFolder classes = new TemporaryFolder();
+
+    private static ClassLoader records;
+
+    @BeforeClass
+    public static void compileRecords() throws Exception {
+        assumeTrue(Runtime.version().feature() >= 16);
+        records = RecordCompiler.compile(classes.getRoot().toPath(), Map.of(
+            "Order", "public record Order(String id, int quantity) { }",
+            "Address", "public record Address(String city) { }",
+            "Customer", "public record Customer(String name, Address address) { }",
+            "CustomerSummary", "public record CustomerSummary(String name, String addressCity) { }",
+            "Point", "public record Point(int x, int y) { public Point(int both) { this(both, both); } }"));
+    }
+
+    @Test
+    public void maps_record_source_through_component_accessors() throws Exception {
+        var sut = new Mapper();
+        Object source = newRecord("Order", "order-1", 3);
+
+        OrderView actual = sut.map(source, OrderView.class);
+
+        assertThat(actual.getId()).isEqualTo("order-1");
+        assertThat(actual.getQuantity()).isEqualTo(3);
+    }
+
+    @Test
+    public void constructs_record_destination_with_component_names() throws Exception {
+        var sut = new Mapper();
+        var source = new OrderView("order-2", 5);
+
+        Object actual = sut.map(source, recordType("Order"));
+
+        assertThat(read(actual, "id")).isEqualTo("order-2");
+        assertThat(read(actual, "quantity")).isEqualTo(5);
+    }
+
+    @Test
+    public void flattens_nested_record_components() throws Exception {
+        var sut = new Mapper();
+        Object source = newRecord("Customer", "Alice", newRecord("Address", "Seoul"));
+
+        Object actual = sut.map(source, recordType("CustomerSummary"));
+
+        assertThat(read(actual, "name")).isEqualTo("Alice");
+        assertThat(read(actual, "addressCity")).isEqualTo("Seoul");
+    }
+
+    @Test
+    public void flattens_record_component_into_bean_properties() throws Exception {
+        var sut = new Mapper();
+        Object source = newRecord("Customer", "Bob", newRecord("Address", "Busan"));
+
+        CustomerView actual = sut.map(source, CustomerView.class);
+
+        assertThat(actual.getName()).isEqualTo("Bob");
+        assertThat(actual.getAddressCity()).isEqualTo("Busan");
+    }
+
+    @Test
+    public void uses_canonical_constructor_of_record_with_additional_constructors() throws Exception {
+        var sut = new Mapper();
+        Object source = newRecord("Point", 1, 2);
+
+        Object actual = sut.map(source, recordType("Point"));
+
+        assertThat(actual).isEqualTo(source);
+    }
+
+    private static Class<?> recordType(String name) throws ClassNotFoundException {
+        return records.loadClass(PACKAGE + "." + name);
+    }
+
+    private static Object newRecord(String name, Object... components) throws Exception {
+        for (Constructor<?> constructor : recordType(name).getConstructors()) {
+            if (constructor.getParameterCount() == components.length) {
+                return constructor.newInstance(components);
+            }
+        }
+
+        throw new IllegalArgumentException(name);
+    }
+
+    private static Object read(Object record, String component) throws Exception {
+        return record.getClass().getMethod(component).invoke(record);
+    }
+}
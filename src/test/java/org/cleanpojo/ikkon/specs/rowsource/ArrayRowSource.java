@@ -0,0 +1,38 @@
+package org.cleanpojo.ikkon.specs.rowsource;
+
+import java.util.List;
+
+import org.cleanpojo.ikkon.RowSource;
+
+public class ArrayRowSource implements RowSource {
+
+    private final List<String> columnNames;
+    private final Object[][] rows;
+    private int cursor = -1;
+    private int columnNameRequests;
+
+    public ArrayRowSource(List<String> columnNames, Object[]... rows) {
+        this.columnNames = columnNames;
+        this.rows = rows;
+    }
+
+    @Override
+    public List<String> getColumnNames() {
+        columnNameRequests++;
+        return columnNames;
+    }
+
+    @Override
+    public boolean next() {
+        return ++cursor < rows.length;
+    }
+
+    @Override
+    public Object getObject(int column) {
+        return rows[cursor][column];
+    }
+
+    public int getColumnNameRequests() {
+        return columnNameRequests;
+    }
+}
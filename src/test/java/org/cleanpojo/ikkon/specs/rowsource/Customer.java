@@ -0,0 +1,41 @@
+package org.cleanpojo.ikkon.specs.rowsource;
+
+public class Customer {
+
+    private final String name;
+    private final int age;
+    private final Grade grade;
+    private final Address address;
+    private boolean active;
+
+    public Customer(String name, int age, Grade grade, Address address) {
+        this.name = name;
+        this.age = age;
+        this.grade = grade;
+        this.address = address;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public int getAge() {
+        return age;
+    }
+
+    public Grade getGrade() {
+        return grade;
+    }
+
+    public Address getAddress() {
+        return address;
+    }
+
+    public boolean isActive() {
+        return active;
+    }
+
+    public void setActive(boolean active) {
+        this.active = active;
+    }
+}
@@ -0,0 +1,6 @@
+package org.cleanpojo.ikkon.specs.rowsource;
+
+public enum Grade {
+    BRONZE,
+    GOLD
+}
@@ -0,0 +1,135 @@
+package org.cleanpojo.ikkon.specs.rowsource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.ThrowableAssert.catchThrowable;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.cleanpojo.ikkon.Mapper;
+import org.junit.Test;
+
+public class RowSourceSpecs {
+
+    @Test
+    public void maps_columns_to_constructor_arguments_and_setters() {
+        var sut = new Mapper();
+        var rows = new ArrayRowSource(
+            List.of("name", "age", "grade", "active"),
+            new Object[] { "Alice", 31L, "GOLD", true },
+            new Object[] { "Bob", 27L, "BRONZE", false });
+
+        List<Customer> actual = sut.mapRows(rows, Customer.class);
+
+        assertThat(actual).extracting(Customer::getName).containsExactly("Alice", "Bob");
+        assertThat(actual).extracting(Customer::getAge).containsExactly(31, 27);
+        assertThat(actual).extracting(Customer::getGrade).containsExactly(Grade.GOLD, Grade.BRONZE);
+        assertThat(actual).extracting(Customer::isActive).containsExactly(true, false);
+    }
+
+    @Test
+    public void parses_text_columns_through_typed_accessors() {
+        var sut = new Mapper();
+        var rows = new ArrayRowSource(
+            List.of("name", "age", "active"),
+            new Object[] { "Alice", "31", "true" });
+
+        List<Customer> actual = sut.mapRows(rows, Customer.class);
+
+        assertThat(actual.get(0).getAge()).isEqualTo(31);
+        assertThat(actual.get(0).isActive()).isTrue();
+    }
+
+    @Test
+    public void unflattens_prefixed_columns_into_nested_objects() {
+        var sut = new Mapper();
+        var rows = new ArrayRowSource(
+            List.of("name", "address_city", "AddressStreet"),
+            new Object[] { "Alice", "Seoul", "Sejong-daero" });
+
+        List<Customer> actual = sut.mapRows(rows, Customer.class);
+
+        assertThat(actual.get(0).getAddress().getCity()).isEqualTo("Seoul");
+        assertThat(actual.get(0).getAddress().getStreet()).isEqualTo("Sejong-daero");
+    }
+
+    @Test
+    public void leaves_nested_object_null_when_its_columns_are_null() {
+        var sut = new Mapper();
+        var rows = new ArrayRowSource(
+            List.of("name", "addressCity", "addressStreet"),
+            new Object[] { "Alice", null, null });
+
+        List<Customer> actual = sut.mapRows(rows, Customer.class);
+
+        assertThat(actual.get(0).getAddress()).isNull();
+    }
+
+    @Test
+    public void fills_unbound_properties_with_default_values() {
+        var sut = new Mapper();
+        var rows = new ArrayRowSource(List.of("name", "nickname"), new Object[] { "Alice", "Al" });
+
+        List<Customer> actual = sut.mapRows(rows, Customer.class);
+
+        assertThat(actual.get(0).getAge()).isZero();
+        assertThat(actual.get(0).getGrade()).isNull();
+        assertThat(actual.get(0).getAddress()).isNull();
+    }
+
+    @Test
+    public void binds_column_names_once_per_batch() {
+        var sut = new Mapper();
+        var rows = new ArrayRowSource(
+            List.of("name"),
+            new Object[] { "Alice" },
+            new Object[] { "Bob" },
+            new Object[] { "Carol" });
+        var names = new ArrayList<String>();
+
+        sut.forEachRow(rows, Customer.class, customer -> names.add(customer.getName()));
+
+        assertThat(names).containsExactly("Alice", "Bob", "Carol");
+        assertThat(rows.getColumnNameRequests()).isEqualTo(1);
+    }
+
+    @Test
+    public void rejects_unconvertible_column_values() {
+        var sut = new Mapper();
+        var rows = new ArrayRowSource(List.of("grade"), new Object[] { 3.5 });
+
+        Throwable thrown = catchThrowable(() -> sut.mapRows(rows, Customer.class));
+
+        assertThat(thrown).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    public void reads_whole_floating_point_values_into_integral_properties() {
+        var sut = new Mapper();
+        var rows = new ArrayRowSource(List.of("age"), new Object[] { 31.0 });
+
+        List<Customer> actual = sut.mapRows(rows, Customer.class);
+
+        assertThat(actual.get(0).getAge()).isEqualTo(31);
+    }
+
+    @Test
+    public void rejects_fractional_values_for_integral_properties() {
+        var sut = new Mapper();
+        var rows = new ArrayRowSource(List.of("age"), new Object[] { 31.5 });
+
+        Throwable thrown = catchThrowable(() -> sut.mapRows(rows, Customer.class));
+
+        assertThat(thrown).isInstanceOf(ArithmeticException.class);
+    }
+
+    @Test
+    public void rejects_integral_values_out_of_property_range() {
+        var sut = new Mapper();
+        var rows = new ArrayRowSource(List.of("age"), new Object[] { 1e20 });
+
+        Throwable thrown = catchThrowable(() -> sut.mapRows(rows, Customer.class));
+
+        assertThat(thrown).isInstanceOf(ArithmeticException.class);
+    }
+}
@@ -0,0 +1,17 @@
+package org.cleanpojo.ikkon.specs.typedmapper;
+
+import java.util.UUID;
+
+public class DerivedEntity extends Entity {
+
+    private final String description;
+
+    public DerivedEntity(final UUID id, final String name, final String description) {
+        super(id, name);
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
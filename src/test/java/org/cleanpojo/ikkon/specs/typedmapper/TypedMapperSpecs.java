@@ -0,0 +1,80 @@
+package org.cleanpojo.ikkon.specs.typedmapper;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.cleanpojo.ikkon.specs.Generator.create;
+
+import org.cleanpojo.ikkon.Mapper;
+import org.cleanpojo.ikkon.TypedMapper;
+import org.junit.Test;
+
+public class TypedMapperSpecs {
+
+    private static final TypedMapper<Entity, MutableEntity> mapper =
+        new Mapper().forTypes(Entity.class, MutableEntity.class);
+
+    @Test
+    public void correctly_maps_with_prebound_type_pair() {
+        var source = create(Entity.class);
+
+        MutableEntity actual = mapper.map(source);
+
+        assertThat(actual.getId()).isEqualTo(source.getId());
+        assertThat(actual.getName()).isEqualTo(source.getName());
+    }
+
+    @Test
+    public void maps_subclass_instance_through_plan_of_declared_source_type() {
+        var source = create(DerivedEntity.class);
+
+        MutableEntity actual = mapper.map(source);
+
+        assertThat(actual.getId()).isEqualTo(source.getId());
+        assertThat(actual.getName()).isEqualTo(source.getName());
+    }
+
+    @Test
+    public void maps_null_to_null() {
+        assertThat(mapper.map(null)).isNull();
+    }
+
+    @Test
+    public void does_not_look_up_plan_cache_per_call() {
+        var sut = new Mapper();
+        TypedMapper<Entity, MutableEntity> typedMapper = sut.forTypes(Entity.class, MutableEntity.class);
+
+        typedMapper.map(create(Entity.class));
+        typedMapper.map(create(Entity.class));
+
+        var statistics = sut.getPlanCacheStatistics();
+        assertThat(statistics.getMisses()).isEqualTo(1);
+        assertThat(statistics.getHits()).isZero();
+    }
+
+    @Test
+    public void recompiles_plan_after_invalidation() {
+        var sut = new Mapper();
+        TypedMapper<Entity, MutableEntity> typedMapper = sut.forTypes(Entity.class, MutableEntity.class);
+        typedMapper.map(create(Entity.class));
+
+        sut.invalidate(MutableEntity.class);
+        var source = create(Entity.class);
+        MutableEntity actual = typedMapper.map(source);
+
+        assertThat(sut.getPlanCacheStatistics().getMisses()).isEqualTo(2);
+        assertThat(actual.getName()).isEqualTo(source.getName());
+    }
+
+    @Test
+    public void looks_up_plan_only_once_after_invalidation() {
+        var sut = new Mapper();
+        TypedMapper<Entity, MutableEntity> typedMapper = sut.forTypes(Entity.class, MutableEntity.class);
+
+        sut.invalidateAll();
+        typedMapper.map(create(Entity.class));
+        typedMapper.map(create(Entity.class));
+
+        var statistics = sut.getPlanCacheStatistics();
+        assertThat(statistics.getMisses()).isEqualTo(2);
+        assertThat(statistics.getHits()).isZero();
+    }
+}